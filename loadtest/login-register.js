@@ -0,0 +1,103 @@
+// 로그인/회원가입 부하 테스트 (k6)
+//
+// 스레드-요청 모델과 가상 스레드 모드를 같은 조건에서 비교합니다. 같은 DB, 같은 Hikari 풀 크기로
+// 두 모드를 번갈아 띄우고 각각 실행한 뒤 http_req_duration의 p(99)와 http_reqs(/s)를 비교합니다.
+// 한 클라이언트에서 부하를 주므로 로그인 제한은 끄고 실행합니다.
+//
+//   SECURITY_LOGIN_THROTTLE_ENABLED=false SPRING_PROFILES_ACTIVE=prod java -jar build/libs/agent-service-0.0.1-SNAPSHOT.jar
+//   k6 run -e MODE=platform loadtest/login-register.js
+//
+//   SECURITY_LOGIN_THROTTLE_ENABLED=false SPRING_PROFILES_ACTIVE=prod,virtual java -jar build/libs/agent-service-0.0.1-SNAPSHOT.jar
+//   k6 run -e MODE=virtual loadtest/login-register.js
+//
+// 환경 변수: BASE_URL (기본 http://localhost:8080/api/agents), RATE (초당 요청 수, 기본 400),
+//           DURATION (기본 2m), AGENTS (미리 가입, 승인해 둘 계정 수, 기본 200)
+import http from 'k6/http';
+import { check } from 'k6';
+import exec from 'k6/execution';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api/agents';
+const RATE = parseInt(__ENV.RATE || '400', 10);
+const DURATION = __ENV.DURATION || '2m';
+const AGENTS = parseInt(__ENV.AGENTS || '200', 10);
+const MODE = __ENV.MODE || 'unknown';
+const PASSWORD = 'loadtest1234';
+const RUN_ID = `${Date.now().toString(36)}`;
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    setupTimeout: '5m',
+    scenarios: {
+        // 도착률을 고정해 서버가 느려져도 요청 수가 줄지 않게 합니다. 대기열이 쌓이면 지연으로 드러납니다.
+        login: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: Math.round(RATE * 0.8),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+        register: {
+            executor: 'constant-arrival-rate',
+            exec: 'register',
+            rate: Math.max(1, Math.round(RATE * 0.2)),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 500,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: MODE },
+};
+
+function registration(userId) {
+    const n = userId.replace(/\D/g, '').padStart(8, '0').slice(-8);
+    return JSON.stringify({
+        user_id: userId,
+        username: '부하테스트',
+        phone_number: `010${n}`,
+        registration_number: `${RUN_ID}-${userId}`,
+        agency_name: '부하테스트 공인중개사',
+        password: PASSWORD,
+        email: `${userId}@loadtest.local`,
+    });
+}
+
+export function setup() {
+    const userIds = [];
+    for (let i = 0; i < AGENTS; i++) {
+        const userId = `lt${RUN_ID}a${i}`;
+        http.post(`${BASE_URL}/register`, registration(userId), JSON_HEADERS);
+        userIds.push(userId);
+    }
+    // 가입 요청을 모두 승인해서 로그인이 BCrypt 검증과 토큰 발급까지 진행되게 합니다.
+    let cursor = null;
+    do {
+        const query = `registration_status=PENDING&agency_name=${encodeURIComponent('부하테스트')}&size=100`
+            + (cursor ? `&cursor=${encodeURIComponent(cursor)}` : '');
+        const page = http.get(`${BASE_URL}/admin/registrations?${query}`).json();
+        const agentIds = page.items.map((item) => item.id);
+        if (agentIds.length > 0) {
+            http.patch(`${BASE_URL}/admin/registrations`,
+                JSON.stringify({ agent_ids: agentIds, decision: 'ACCEPT' }), JSON_HEADERS);
+        }
+        cursor = page.next_cursor;
+    } while (cursor);
+    return { userIds };
+}
+
+export function login(data) {
+    const userId = data.userIds[Math.floor(Math.random() * data.userIds.length)];
+    const res = http.post(`${BASE_URL}/login`, JSON.stringify({ user_id: userId, password: PASSWORD }),
+        Object.assign({ tags: { name: 'login' } }, JSON_HEADERS));
+    check(res, { 'login 200': (r) => r.status === 200 });
+}
+
+export function register() {
+    const userId = `lt${RUN_ID}r${exec.scenario.iterationInTest}`;
+    const res = http.post(`${BASE_URL}/register`, registration(userId),
+        Object.assign({ tags: { name: 'register' } }, JSON_HEADERS));
+    check(res, { 'register 201': (r) => r.status === 201 });
+}
@@ -0,0 +1,130 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.AgentServiceApplication;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.util.ReplicaReads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 캐시 miss시 실행되는 조회를 관리 엔티티 조회와 {@link AgentAccount} projection 조회로 비교합니다.
+ * <p>
+ * 애플리케이션 컨텍스트를 그대로 띄워 Hibernate 설정(batch, naming 등)이 실제와 같고, 8개 스레드가 동시에 조회합니다.
+ * {@code ./gradlew jmh}로 실행하면 ops/s와 gc 프로파일러의 {@code gc.alloc.rate.norm}(B/op)이 함께 출력됩니다.
+ * PostgreSQL에서 측정하려면 jdbcUrl, username, password를 바꿔 실행합니다.
+ * <pre>
+ * ./gradlew jmhJar
+ * java -jar build/libs/agent-service-0.0.1-SNAPSHOT-jmh.jar LoginQueryBenchmark \
+ *     -p jdbcUrl=jdbc:postgresql://localhost:5432/bench -p username=bench -p password=bench
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(8)
+public class LoginQueryBenchmark {
+    private static final int USERS = 10_000;
+
+    @Param("jdbc:h2:mem:login-bench;DB_CLOSE_DELAY=-1")
+    public String jdbcUrl;
+
+    @Param("sa")
+    public String username;
+
+    @Param("")
+    public String password;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private ReplicaReads replicaReads;
+    private String[] userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AgentServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + jdbcUrl,
+                        "spring.datasource.username=" + username,
+                        "spring.datasource.password=" + password,
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=warn",
+                        "security.jwt.token.secret-key=benchmarkSecretKeybenchmarkSecretKeybenchmarkSecretKey",
+                        "security.jwt.token.expire-length=3600000")
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        replicaReads = context.getBean(ReplicaReads.class);
+
+        userIds = new String[USERS];
+        List<User> batch = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = "bench" + i;
+            User user = User.builder()
+                    .userId(userIds[i])
+                    .username("김테스트")
+                    .phoneNumber("01012341234")
+                    .agencyName("테스트 공인중개사")
+                    .registrationNumber("bench-" + i)
+                    .password("$2a$10$abcdefghijklmnopqrstuuCBVy7Ew4ZlK3o3kGTm2BGdI0HMaJ6sK")
+                    .email("bench" + i + "@test.com")
+                    .registrationStatus(RegistrationStatus.ACCEPTED)
+                    .build();
+            batch.add(user);
+            if (batch.size() == 1000) {
+                userRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 변경 전 경로: 관리 엔티티 전체를 읽고 필요한 값만 꺼냅니다.
+     */
+    @Benchmark
+    public String entity() {
+        User user = userRepository.findByUserId(randomUserId()).orElseThrow();
+        return user.getPassword();
+    }
+
+    /**
+     * 변경 후 경로: 읽기 전용 트랜잭션에서 projection만 읽습니다.
+     */
+    @Benchmark
+    public String projection() {
+        String userId = randomUserId();
+        return replicaReads.read(() -> userRepository.findCredentialsByUserId(userId).orElseThrow()).password();
+    }
+
+    private String randomUserId() {
+        return userIds[ThreadLocalRandom.current().nextInt(USERS)];
+    }
+}
@@ -0,0 +1,69 @@
+package com.getourhome.agentservice.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * createTokenWithoutExpiration의 jjwt 빌더 경로와 {@link HmacTokenSigner} 경로를 비교합니다.
+ * <p>
+ * {@code ./gradlew jmh}로 실행하면 ops/s와 gc 프로파일러의 {@code gc.alloc.rate.norm}(B/op)이 함께 출력됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TokenSigningBenchmark {
+    private static final String SECRET_KEY = "mySecretKeymySecretKeymySecretKeymySecretKeymySecretKey";
+
+    private SecretKey secretKey;
+    private HmacTokenSigner hmacTokenSigner;
+    private UUID id;
+    private String tokenId;
+    private String agencyName;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET_KEY));
+        hmacTokenSigner = new HmacTokenSigner(secretKey);
+        id = UUID.randomUUID();
+        tokenId = UUID.randomUUID().toString();
+        agencyName = "테스트 공인중개사";
+    }
+
+    @Benchmark
+    public String jjwtBuilder() {
+        return Jwts.builder()
+                .claim("id", id.toString())
+                .claim("agencyName", agencyName)
+                .claim("role", "AGENT")
+                .id(tokenId)
+                .issuedAt(new Date())
+                .signWith(secretKey)
+                .compact();
+    }
+
+    @Benchmark
+    public String hmacTokenSigner() {
+        return hmacTokenSigner.sign(id, agencyName, "AGENT", tokenId, System.currentTimeMillis() / 1000, null);
+    }
+}
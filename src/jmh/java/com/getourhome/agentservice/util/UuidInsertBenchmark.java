@@ -0,0 +1,126 @@
+package com.getourhome.agentservice.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UUID v4(무작위)와 v7(시간 순서) 기본키의 insert 처리량을 비교합니다.
+ * <p>
+ * 측정하는 동안 테이블이 계속 커지므로 인덱스가 커질수록 v4는 임의의 페이지에, v7은 오른쪽 끝 페이지에 insert하는 차이가 드러납니다.
+ * 기본값은 PostgreSQL 호환 모드의 H2이며, 실제 PostgreSQL과 비교하려면 jdbcUrl을 바꿔 실행합니다.
+ * <pre>
+ * ./gradlew jmhJar
+ * java -jar build/libs/agent-service-0.0.1-SNAPSHOT-jmh.jar UuidInsertBenchmark \
+ *     -p jdbcUrl=jdbc:postgresql://localhost:5432/bench -p username=bench -p password=bench
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(1)
+public class UuidInsertBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    public enum KeyType {
+        RANDOM {
+            @Override
+            UUID next() {
+                return UUID.randomUUID();
+            }
+        },
+        TIME_ORDERED {
+            @Override
+            UUID next() {
+                return UuidV7.randomUuid();
+            }
+        };
+
+        abstract UUID next();
+    }
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    public KeyType keyType;
+
+    @Param("jdbc:h2:mem:uuid-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+    public String jdbcUrl;
+
+    @Param("sa")
+    public String username;
+
+    @Param("")
+    public String password;
+
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, username, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists uuid_bench_users");
+            // Users 테이블과 같은 uuid 기본키, 보조 인덱스 구성입니다.
+            statement.execute("create table uuid_bench_users ("
+                    + "id uuid primary key, "
+                    + "user_id varchar(255) not null, "
+                    + "registration_status integer not null, "
+                    + "created_at timestamp(6) not null)");
+            statement.execute("create index idx_uuid_bench_users_status_created_at "
+                    + "on uuid_bench_users (registration_status, created_at, id)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement(
+                "insert into uuid_bench_users (id, user_id, registration_status, created_at) values (?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insert.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table uuid_bench_users");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            UUID id = keyType.next();
+            insert.setObject(1, id);
+            insert.setString(2, id.toString());
+            insert.setInt(3, 0);
+            insert.setTimestamp(4, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+}
@@ -0,0 +1,80 @@
+package com.getourhome.agentservice.config;
+
+import com.getourhome.agentservice.util.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code agent.datasource.routing.enabled=true}이면 spring.datasource를 primary로,
+ * {@code agent.datasource.replica.urls}의 각 주소를 replica 풀로 만들어 {@link ReplicaRoutingDataSource}로 묶습니다.
+ * JPA, Flyway 등은 {@link Primary} DataSource를 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "agent.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${agent.datasource.replica.urls}") List<String> urls,
+            @Value("${agent.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${agent.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${agent.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${agent.datasource.replica.connection-timeout:PT1S}") Duration connectionTimeout,
+            @Value("${agent.datasource.replica.cooldown:PT30S}") Duration cooldown,
+            @Value("${agent.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${agent.datasource.replica.max-lag:PT1S}") Duration maxLag,
+            @Value("${agent.datasource.replica.check-interval:PT5S}") Duration checkInterval
+    ) {
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            // 응답하지 않는 replica는 오래 기다리지 않고 제외한 뒤 primary에서 읽습니다.
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            // replica가 내려가 있어도 기동은 되도록 첫 연결 실패를 허용합니다.
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        ReplicaRoutingDataSource routing =
+                new ReplicaRoutingDataSource(primaryDataSource, replicas, cooldown, lagQuery, maxLag);
+        routing.startChecks(checkInterval);
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,20 @@
+package com.getourhome.agentservice.config;
+
+import com.getourhome.agentservice.util.SampledSqlLogger;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sampledSqlLoggerCustomizer(
+            @Value("${agent.sql-log.sample-every:1}") long sampleEvery
+    ) {
+        SampledSqlLogger sqlLogger = new SampledSqlLogger(sampleEvery);
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlLogger);
+    }
+}
@@ -1,14 +1,31 @@
 package com.getourhome.agentservice.config;
 
+import com.getourhome.agentservice.util.BoundedPasswordEncoder;
+import com.getourhome.agentservice.util.CalibratedBCryptPasswordEncoder;
+import com.getourhome.agentservice.util.PasswordHashingExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 public class SecurityConfig{
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            PasswordHashingExecutor passwordHashingExecutor,
+            @Value("${security.password-hashing.bcrypt.strength:0}") int strength,
+            @Value("${security.password-hashing.bcrypt.target-latency:PT0.25S}") Duration targetLatency,
+            @Value("${security.password-hashing.bcrypt.min-strength:8}") int minStrength,
+            @Value("${security.password-hashing.bcrypt.max-strength:14}") int maxStrength
+    ) {
+        // strength를 지정하면 모든 인스턴스가 그 cost로 맞추며, cost가 다른 해시는 로그인시 올리거나 내려서 다시 해싱합니다.
+        // 지정하지 않으면 기동시 측정해서 목표 검증 시간에 맞는 cost를 고릅니다. 인스턴스마다 cost가 달라질 수 있으므로
+        // 측정한 cost는 새 해시에만 쓰고, 로그인시 재해싱은 min-strength보다 낮은 해시에만 적용합니다.
+        CalibratedBCryptPasswordEncoder bCryptPasswordEncoder = strength > 0
+                ? new CalibratedBCryptPasswordEncoder(strength)
+                : CalibratedBCryptPasswordEncoder.calibrate(targetLatency, minStrength, maxStrength);
+        return new BoundedPasswordEncoder(bCryptPasswordEncoder, passwordHashingExecutor);
     }
 }
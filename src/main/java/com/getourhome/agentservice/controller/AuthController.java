@@ -1,19 +1,23 @@
 package com.getourhome.agentservice.controller;
 
 import com.getourhome.agentservice.dto.request.LoginRequestDto;
+import com.getourhome.agentservice.dto.request.TokenRefreshRequestDto;
 import com.getourhome.agentservice.dto.request.UserRegisterDto;
 import com.getourhome.agentservice.dto.response.BaseResponseDto;
 import com.getourhome.agentservice.dto.response.UserResponseDto;
 import com.getourhome.agentservice.entity.RegistrationStatus;
-import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.repository.AgentAccount;
 import com.getourhome.agentservice.service.AuthService;
+import com.getourhome.agentservice.service.RefreshTokenService;
 import com.getourhome.agentservice.util.JwtTokenProvider;
+import com.getourhome.agentservice.util.LoginThrottle;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,13 +27,16 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Tag(name = "Auth API", description = "회원가입, 로그인에 대한 API입니다.")
 @RequiredArgsConstructor
 @RestController
 public class AuthController {
     private final AuthService authService;
+    private final RefreshTokenService refreshTokenService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginThrottle loginThrottle;
 
 
     @PostMapping("/register")
@@ -47,29 +54,32 @@ public class AuthController {
             @ApiResponse(responseCode = "400", description = "공인중개사 등록 번호 중복",
                     content = @Content)})
     public ResponseEntity<?> registerUser(@RequestBody UserRegisterDto userRegisterDto) {
-        if (authService.findByUserId(userRegisterDto.getUserId()).isPresent()) {
+        AuthService.RegistrationResult result = authService.registerUser(userRegisterDto);
+        if (result != AuthService.RegistrationResult.REGISTERED) {
             Map<String, String> response = new HashMap<>();
-            response.put("error", "User Id already exists");
+            switch (result) {
+                case DUPLICATE_USER_ID -> {
+                    response.put("error", "User Id already exists");
+                    response.put("field", "user_id");
+                }
+                case DUPLICATE_EMAIL -> {
+                    response.put("error", "Email already exists");
+                    response.put("field", "email");
+                }
+                default -> {
+                    response.put("error", "Registration Number already exists");
+                    response.put("field", "registration_number");
+                }
+            }
             return ResponseEntity.badRequest().body(response);
         }
-        if (authService.findByEmail(userRegisterDto.getEmail()).isPresent()) {
-            Map<String, String> response = new HashMap<>();
-            response.put("error", "Email already exists");
-            return ResponseEntity.badRequest().body(response);
-        }
-        if (authService.findByRegistrationNumber(userRegisterDto.getRegistrationNumber()).isPresent()) {
-            Map<String, String> response = new HashMap<>();
-            response.put("error", "Registration Number already exists");
-            return ResponseEntity.badRequest().body(response);
-        }
-        authService.registerUser(userRegisterDto);
         String msg = "회원가입 성공";
         BaseResponseDto baseResponseDto = BaseResponseDto.builder().message(msg).build();
         return ResponseEntity.status(HttpStatus.CREATED).body(baseResponseDto);
     }
 
     @PostMapping("/login")
-    @Operation(summary = "로그인", description = "사용자 아이디, 비밀번호로 로그인을 진행합니다. 로그인이 성공하면 JWT토큰을 전달합니다.")
+    @Operation(summary = "로그인", description = "사용자 아이디, 비밀번호로 로그인을 진행합니다. 로그인이 성공하면 만료 시간이 있는 JWT토큰과 refresh token을 전달합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "로그인 성공",
                     content = { @Content(mediaType = "application/json",
@@ -77,26 +87,55 @@ public class AuthController {
             @ApiResponse(responseCode = "400", description = "사용자 ID 또는 비밀번호를 찾을 수 없음",
                     content = @Content),
             @ApiResponse(responseCode = "401", description = "가입 승인되지 않은 공인중개사",
+                    content = @Content),
+            @ApiResponse(responseCode = "429", description = "로그인 시도 횟수 초과",
                     content = @Content)})
-    public ResponseEntity<?> loginUser(@RequestBody LoginRequestDto loginRequestDto) {
-        User user = authService.login(loginRequestDto);
-        if (user == null) {
+    public ResponseEntity<?> loginUser(@RequestBody LoginRequestDto loginRequestDto, HttpServletRequest request) {
+        // 제한된 계정, 클라이언트는 DB 조회와 BCrypt 검증 전에 거부합니다.
+        loginThrottle.checkAllowed(loginRequestDto.getUserId(), request.getRemoteAddr());
+        AgentAccount account = authService.login(loginRequestDto);
+        if (account == null) {
+            loginThrottle.recordFailure(loginRequestDto.getUserId());
             Map<String, String> response = new HashMap<>();
             response.put("error", "Invalid username or password");
             return ResponseEntity.badRequest().body(response);
         }
 
-        if(user.getRegistrationStatus() != RegistrationStatus.ACCEPTED){
+        if(account.registrationStatus() != RegistrationStatus.ACCEPTED){
             Map<String, String> response = new HashMap<>();
             response.put("error", "가입 승인되지 않은 공인중개사입니다.");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
         }
 
-        UserResponseDto userResponseDto = UserResponseDto
+        loginThrottle.recordSuccess(loginRequestDto.getUserId());
+        return ResponseEntity.ok(issueTokens(account.id(), account.agencyName(), refreshTokenService.issue(account.id())));
+    }
+
+    @PostMapping("/token/refresh")
+    @Operation(summary = "JWT 재발급", description = "refresh token으로 비밀번호 확인 없이 새 JWT토큰과 refresh token을 발급합니다. 사용한 refresh token은 폐기됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재발급 성공",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UserResponseDto.class)) }),
+            @ApiResponse(responseCode = "401", description = "유효하지 않거나 만료, 재사용된 refresh token",
+                    content = @Content)})
+    public ResponseEntity<?> refreshToken(@RequestBody TokenRefreshRequestDto tokenRefreshRequestDto) {
+        RefreshTokenService.Renewal renewal = refreshTokenService.renew(tokenRefreshRequestDto.getRefreshToken()).orElse(null);
+        if (renewal == null) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "유효하지 않은 refresh token입니다.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+        return ResponseEntity.ok(issueTokens(renewal.agentId(), renewal.agencyName(), renewal.refreshToken()));
+    }
+
+    private UserResponseDto issueTokens(UUID agentId, String agencyName, String refreshToken) {
+        return UserResponseDto
                 .builder()
                 .role("AGENT")
-                .jwt(jwtTokenProvider.createTokenWithoutExpiration(user.getId(), user.getAgencyName()))
+                .jwt(jwtTokenProvider.createToken(agentId, agencyName))
+                .refreshToken(refreshToken)
+                .expiresIn(jwtTokenProvider.getValidityInMilliseconds() / 1000)
                 .build();
-        return ResponseEntity.ok(userResponseDto);
     }
 }
@@ -0,0 +1,59 @@
+package com.getourhome.agentservice.controller;
+
+import com.getourhome.agentservice.dto.response.IdentifierAvailabilityResponseDto;
+import com.getourhome.agentservice.service.IdentifierAvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Tag(name = "Auth API", description = "회원가입, 로그인에 대한 API입니다.")
+@RequiredArgsConstructor
+@RestController
+public class AvailabilityController {
+    private final IdentifierAvailabilityService identifierAvailabilityService;
+
+    @GetMapping("/availability")
+    @Operation(
+            summary = "식별자 사용 가능 여부 확인",
+            description = "회원가입 전에 사용자 아이디, 이메일, 공인중개사 등록번호가 이미 사용 중인지 확인합니다. 전달한 값에 대해서만 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "확인 완료",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = IdentifierAvailabilityResponseDto.class)) }),
+            @ApiResponse(responseCode = "400", description = "확인할 값이 없음",
+                    content = @Content)})
+    public ResponseEntity<?> checkAvailability(
+            @RequestParam(name = "user_id", required = false) String userId,
+            @RequestParam(name = "email", required = false) String email,
+            @RequestParam(name = "registration_number", required = false) String registrationNumber) {
+        if (isBlank(userId) && isBlank(email) && isBlank(registrationNumber)) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "확인할 user_id, email, registration_number 중 하나 이상을 입력해주세요.");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        IdentifierAvailabilityResponseDto responseDto = IdentifierAvailabilityResponseDto
+                .builder()
+                .userIdAvailable(isBlank(userId) ? null : identifierAvailabilityService.isUserIdAvailable(userId))
+                .emailAvailable(isBlank(email) ? null : identifierAvailabilityService.isEmailAvailable(email))
+                .registrationNumberAvailable(isBlank(registrationNumber)
+                        ? null : identifierAvailabilityService.isRegistrationNumberAvailable(registrationNumber))
+                .build();
+        return ResponseEntity.ok(responseDto);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
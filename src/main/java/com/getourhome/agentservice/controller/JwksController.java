@@ -0,0 +1,40 @@
+package com.getourhome.agentservice.controller;
+
+import com.getourhome.agentservice.util.JwtSigningKeys;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Tag(name = "Token API", description = "공인중개사 JWT 검증에 대한 API입니다.")
+@RequiredArgsConstructor
+@RestController
+public class JwksController {
+    private static final CacheControl JWKS_CACHE_CONTROL = CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic();
+
+    private final JwtSigningKeys jwtSigningKeys;
+
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(
+            summary = "JWT 서명 공개키 조회",
+            description = "ES256/EdDSA로 서명된 공인중개사 JWT를 검증할 수 있는 공개키 목록(JWKS)을 반환합니다. " +
+                    "토큰 헤더의 kid로 공개키를 찾아 로컬에서 검증할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "공개키 변경 없음")})
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        // If-None-Match가 일치하면 HttpEntityMethodProcessor가 304로 응답합니다.
+        return ResponseEntity.ok()
+                .cacheControl(JWKS_CACHE_CONTROL)
+                .eTag(jwtSigningKeys.getJwksETag())
+                .body(jwtSigningKeys.getJwks());
+    }
+}
@@ -1,8 +1,12 @@
 package com.getourhome.agentservice.controller;
 
+import com.getourhome.agentservice.dto.request.RegistrationDecisionRequestDto;
 import com.getourhome.agentservice.dto.request.RejectRegistrationRequestDto;
 import com.getourhome.agentservice.dto.response.BaseResponseDto;
-import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.dto.response.RegistrationDecisionResponseDto;
+import com.getourhome.agentservice.dto.response.RegistrationDecisionResultDto;
+import com.getourhome.agentservice.dto.response.RegistrationPageResponseDto;
+import com.getourhome.agentservice.entity.RegistrationStatus;
 import com.getourhome.agentservice.service.ManagementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,7 +20,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -25,8 +31,90 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/admin/registrations")
 public class ManagementController {
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final ManagementService managementService;
 
+    @GetMapping
+    @Operation(
+            summary = "공인중개사 가입 요청 목록 조회",
+            description = "가입 요청 상태, 상호명(일치), 요청 시각으로 가입 요청을 오래된 순서대로 조회합니다. "
+                    + "다음 페이지는 응답의 next_cursor를 cursor로 전달해 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RegistrationPageResponseDto.class)) }),
+            @ApiResponse(responseCode = "400", description = "잘못된 cursor 또는 size",
+                    content = @Content)})
+    public ResponseEntity<?> listRegistrations(
+            @Parameter(description = "가입 요청 상태", example = "PENDING")
+            @RequestParam(name = "registration_status", required = false) RegistrationStatus registrationStatus,
+            @Parameter(description = "공인중개사 상호명 (전체 일치)", example = "테스트 공인중개사")
+            @RequestParam(name = "agency_name", required = false) String agencyName,
+            @Parameter(description = "이 시각 이후 요청 (포함)", example = "2024-07-01T00:00:00Z")
+            @RequestParam(name = "submitted_from", required = false) Instant submittedFrom,
+            @Parameter(description = "이 시각 이전 요청 (미포함)", example = "2024-08-01T00:00:00Z")
+            @RequestParam(name = "submitted_to", required = false) Instant submittedTo,
+            @Parameter(description = "이전 응답의 next_cursor")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기, 최대 " + MAX_PAGE_SIZE, example = "20")
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+        try {
+            return ResponseEntity.ok(managementService.listRegistrations(
+                    registrationStatus, agencyName, submittedFrom, submittedTo, cursor, size));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "잘못된 cursor입니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    @PatchMapping
+    @Operation(
+            summary = "공인중개사 가입 요청 일괄 승인/거부",
+            description = "여러 공인중개사의 가입 요청을 한 번에 승인하거나 거부하고, 요청 순서대로 id별 처리 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 완료",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RegistrationDecisionResponseDto.class)) }),
+            @ApiResponse(responseCode = "400", description = "id 목록이 비어 있거나 최대 개수 초과, decision 누락",
+                    content = @Content)})
+    public ResponseEntity<?> decideRegistrations(@RequestBody RegistrationDecisionRequestDto request) {
+        if (request.getAgentIds() == null || request.getAgentIds().isEmpty()) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "처리할 공인중개사 고유 아이디가 없습니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+        if (request.getAgentIds().size() > MAX_BATCH_SIZE) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "한 번에 최대 " + MAX_BATCH_SIZE + "건만 처리할 수 있습니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+        if (request.getDecision() == null) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "decision은 ACCEPT 또는 REJECT여야 합니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        List<RegistrationDecisionResultDto> results = managementService.decideAll(
+                request.getAgentIds(), request.getDecision(), request.getReason());
+        RegistrationDecisionResponseDto responseDto = RegistrationDecisionResponseDto
+                .builder()
+                .updated((int) results.stream()
+                        .filter(result -> result.getOutcome() == RegistrationDecisionResultDto.Outcome.UPDATED)
+                        .count())
+                .results(results)
+                .build();
+        return ResponseEntity.ok(responseDto);
+    }
+
     @PatchMapping("/{agentId}/accept")
     @Operation(
             summary = "공인중개사 가입 요청 승인",
@@ -36,21 +124,23 @@ public class ManagementController {
                     content = { @Content(mediaType = "application/json",
                             schema = @Schema(implementation = BaseResponseDto.class)) }),
             @ApiResponse(responseCode = "400", description = "찾을 수 없는 agent user uuid",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "이미 처리되었거나 version이 다른 가입 요청",
                     content = @Content)})
     public ResponseEntity<?> acceptRegistration(
             @Parameter(description = "공인중개사 고유 식별 아이디",
                     example = "a1d28840-ec14-4f97-ae81-4c8fee84167e")
-            @PathVariable("agentId") String agentId
+            @PathVariable("agentId") String agentId,
+            @Parameter(description = "목록 조회시 받은 가입 요청 version", example = "0")
+            @RequestParam(name = "version", required = false) Long version
     ) {
         UUID uuid = UUID.fromString(agentId);
 
-        User user = managementService.acceptUser(uuid);
-        if (user == null) {
-            Map<String, String> response = new HashMap<>();
-            response.put("error", "사용자 고유 아이디에 맞는 사용자가 존재하지 않습니다.");
-            return ResponseEntity.badRequest().body(response);
+        ManagementService.TransitionResult result = managementService.acceptUser(uuid, version);
+        if (result != ManagementService.TransitionResult.UPDATED) {
+            return transitionFailure(result);
         }
-        String msg = user.getUserId() + " 가입 승인";
+        String msg = agentId + " 가입 승인";
         BaseResponseDto baseResponseDto = BaseResponseDto.builder().message(msg).build();
         return ResponseEntity.status(HttpStatus.OK).body(baseResponseDto);
     }
@@ -64,23 +154,35 @@ public class ManagementController {
                     content = { @Content(mediaType = "application/json",
                             schema = @Schema(implementation = BaseResponseDto.class)) }),
             @ApiResponse(responseCode = "400", description = "찾을 수 없는 agent user uuid",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "이미 처리되었거나 version이 다른 가입 요청",
                     content = @Content)})
     public ResponseEntity<?> rejectRegistration(
             @Parameter(description = "공인중개사 고유 식별 아이디",
                     example = "a1d28840-ec14-4f97-ae81-4c8fee84167e")
             @PathVariable("agentId") String agentId,
+            @Parameter(description = "목록 조회시 받은 가입 요청 version", example = "0")
+            @RequestParam(name = "version", required = false) Long version,
             @RequestBody RejectRegistrationRequestDto request
     ) {
         UUID uuid = UUID.fromString(agentId);
 
-        User user = managementService.rejectUser(uuid, request);
-        if (user == null) {
-            Map<String, String> response = new HashMap<>();
-            response.put("error", "사용자 고유 아이디에 맞는 사용자가 존재하지 않습니다.");
-            return ResponseEntity.badRequest().body(response);
+        ManagementService.TransitionResult result = managementService.rejectUser(uuid, request, version);
+        if (result != ManagementService.TransitionResult.UPDATED) {
+            return transitionFailure(result);
         }
-        String msg = user.getUserId() + " 가입 거부 \n사유 : " + request.getReason();
+        String msg = agentId + " 가입 거부 \n사유 : " + request.getReason();
         BaseResponseDto baseResponseDto = BaseResponseDto.builder().message(msg).build();
         return ResponseEntity.status(HttpStatus.OK).body(baseResponseDto);
     }
+
+    private ResponseEntity<?> transitionFailure(ManagementService.TransitionResult result) {
+        Map<String, String> response = new HashMap<>();
+        if (result == ManagementService.TransitionResult.CONFLICT) {
+            response.put("error", "이미 처리되었거나 다른 관리자가 변경한 가입 요청입니다.");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        response.put("error", "사용자 고유 아이디에 맞는 사용자가 존재하지 않습니다.");
+        return ResponseEntity.badRequest().body(response);
+    }
 }
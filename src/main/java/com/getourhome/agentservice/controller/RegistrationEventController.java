@@ -0,0 +1,43 @@
+package com.getourhome.agentservice.controller;
+
+import com.getourhome.agentservice.dto.response.RegistrationEventDto;
+import com.getourhome.agentservice.service.RegistrationEventBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Management API", description = "공인중개사 가입요청 관리에 대한 API입니다.")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin/registrations")
+public class RegistrationEventController {
+    private final RegistrationEventBroadcaster registrationEventBroadcaster;
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "공인중개사 가입 요청 이벤트 구독",
+            description = "신규 가입 요청과 승인/거부를 Server-Sent Events로 전달합니다. "
+                    + "재연결시 Last-Event-ID 이후 이벤트부터 이어서 받고, 이어받을 수 없거나 처리가 밀린 경우 "
+                    + "resync 이벤트를 받으면 목록을 다시 조회해야 합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "구독 시작",
+                    content = { @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = RegistrationEventDto.class)) })})
+    public SseEmitter subscribe(
+            @Parameter(description = "마지막으로 받은 이벤트 id")
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return registrationEventBroadcaster.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,85 @@
+package com.getourhome.agentservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getourhome.agentservice.dto.response.ImportRowResultDto;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@Tag(name = "Management API", description = "공인중개사 가입요청 관리에 대한 API입니다.")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin/registrations")
+public class RegistrationImportController {
+    static final String TEXT_CSV = "text/csv";
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, APPLICATION_NDJSON}, produces = APPLICATION_NDJSON)
+    @Operation(
+            summary = "공인중개사 일괄 등록",
+            description = "CSV(헤더 포함) 또는 NDJSON으로 공인중개사를 일괄 등록합니다. "
+                    + "컬럼은 user_id, username, registration_number, agency_name, phone_number, password, email입니다. "
+                    + "행별 결과를 NDJSON으로 처리하는 대로 응답합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "행별 등록 결과",
+                    content = { @Content(mediaType = APPLICATION_NDJSON,
+                            schema = @Schema(implementation = ImportRowResultDto.class)) }),
+            @ApiResponse(responseCode = "400", description = "CSV 헤더 누락",
+                    content = @Content)})
+    public void importRegistrations(
+            @Parameter(description = "true면 가입 승인 상태로 등록, false면 승인 대기 상태로 등록")
+            @RequestParam(name = "accept", defaultValue = "false") boolean accept,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        UserImportService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                ? UserImportService.Format.CSV
+                : UserImportService.Format.NDJSON;
+        RegistrationStatus registrationStatus = accept ? RegistrationStatus.ACCEPTED : RegistrationStatus.PENDING;
+
+        response.setContentType(APPLICATION_NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try {
+            ServletOutputStream outputStream = response.getOutputStream();
+            userImportService.importUsers(request.getInputStream(), format, registrationStatus, results -> {
+                for (ImportRowResultDto result : results) {
+                    outputStream.write(objectMapper.writeValueAsBytes(result));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            });
+        } catch (IllegalArgumentException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            response.resetBuffer();
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.getourhome.agentservice.controller;
+
+import com.getourhome.agentservice.dto.response.RegistrationStatsResponseDto;
+import com.getourhome.agentservice.service.RegistrationStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Tag(name = "Management API", description = "공인중개사 가입요청 관리에 대한 API입니다.")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin/registrations")
+public class RegistrationStatsController {
+    private final RegistrationStatsService registrationStatsService;
+
+    @GetMapping("/stats")
+    @Operation(
+            summary = "공인중개사 가입 요청 통계 조회",
+            description = "상태별 공인중개사 수와 최근 days일 동안의 일별 가입 요청, 승인, 거부 건수를 조회합니다. "
+                    + "집계 테이블 값으로 응답하므로 몇 초 늦게 반영될 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RegistrationStatsResponseDto.class)) }),
+            @ApiResponse(responseCode = "400", description = "잘못된 days",
+                    content = @Content)})
+    public ResponseEntity<?> getStats(
+            @Parameter(description = "조회할 일 수", example = "7")
+            @RequestParam(name = "days", defaultValue = "7") int days
+    ) {
+        int maxDays = registrationStatsService.getRetentionDays();
+        if (days < 1 || days > maxDays) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "days는 1 이상 " + maxDays + " 이하여야 합니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+        return ResponseEntity.ok(registrationStatsService.getStats(days));
+    }
+}
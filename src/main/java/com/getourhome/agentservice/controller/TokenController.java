@@ -0,0 +1,57 @@
+package com.getourhome.agentservice.controller;
+
+import com.getourhome.agentservice.dto.request.TokenVerifyRequestDto;
+import com.getourhome.agentservice.dto.response.TokenVerifyResponseDto;
+import com.getourhome.agentservice.service.TokenVerificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Tag(name = "Token API", description = "공인중개사 JWT 검증에 대한 API입니다.")
+@RequiredArgsConstructor
+@RestController
+public class TokenController {
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final TokenVerificationService tokenVerificationService;
+
+    @PostMapping("/tokens/verify")
+    @Operation(
+            summary = "JWT 일괄 검증",
+            description = "여러 공인중개사 JWT를 한 번에 검증하고, 요청 순서대로 토큰별 검증 결과와 claim을 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검증 완료",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TokenVerifyResponseDto.class)) }),
+            @ApiResponse(responseCode = "400", description = "토큰 목록이 비어 있거나 최대 개수 초과",
+                    content = @Content)})
+    public ResponseEntity<?> verifyTokens(@RequestBody TokenVerifyRequestDto request) {
+        if (request.getTokens() == null || request.getTokens().isEmpty()) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "검증할 토큰이 없습니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+        if (request.getTokens().size() > MAX_BATCH_SIZE) {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "한 번에 최대 " + MAX_BATCH_SIZE + "개의 토큰만 검증할 수 있습니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        TokenVerifyResponseDto responseDto = TokenVerifyResponseDto
+                .builder()
+                .results(tokenVerificationService.verifyAll(request.getTokens()))
+                .build();
+        return ResponseEntity.ok(responseDto);
+    }
+}
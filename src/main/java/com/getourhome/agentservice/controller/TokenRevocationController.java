@@ -0,0 +1,59 @@
+package com.getourhome.agentservice.controller;
+
+import com.getourhome.agentservice.dto.request.TokenRevocationRequestDto;
+import com.getourhome.agentservice.dto.response.BaseResponseDto;
+import com.getourhome.agentservice.service.RefreshTokenService;
+import com.getourhome.agentservice.service.TokenRevocationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Tag(name = "Token Revocation API", description = "공인중개사 JWT 폐기에 대한 API입니다.")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin/tokens")
+public class TokenRevocationController {
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+
+    @PostMapping("/revocations")
+    @Operation(
+            summary = "공인중개사 JWT 폐기",
+            description = "token_id(jti)로 특정 토큰을 폐기하거나, agent_id로 issued_before 이전에 발급된 공인중개사의 모든 토큰과 refresh token을 폐기합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "폐기 성공",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BaseResponseDto.class)) }),
+            @ApiResponse(responseCode = "400", description = "token_id, agent_id 모두 없음",
+                    content = @Content)})
+    public ResponseEntity<?> revokeTokens(@RequestBody TokenRevocationRequestDto request) {
+        String msg;
+        if (request.getTokenId() != null) {
+            tokenRevocationService.revokeToken(request.getTokenId(), request.getReason());
+            msg = request.getTokenId() + " 토큰 폐기";
+        } else if (request.getAgentId() != null) {
+            tokenRevocationService.revokeAgentTokens(request.getAgentId(), request.getIssuedBefore(), request.getReason());
+            refreshTokenService.revokeAll(request.getAgentId());
+            msg = request.getAgentId() + " 공인중개사 토큰 전체 폐기";
+        } else {
+            Map<String, String> response = new HashMap<>();
+            response.put("error", "token_id 또는 agent_id를 입력해주세요.");
+            return ResponseEntity.badRequest().body(response);
+        }
+        BaseResponseDto baseResponseDto = BaseResponseDto.builder().message(msg).build();
+        return ResponseEntity.status(HttpStatus.CREATED).body(baseResponseDto);
+    }
+}
@@ -0,0 +1,37 @@
+package com.getourhome.agentservice.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(title = "공인중개사 가입 요청 일괄 승인/거부 DTO")
+public class RegistrationDecisionRequestDto {
+    public enum Decision {
+        ACCEPT,
+        REJECT
+    }
+
+    @JsonProperty("agent_ids")
+    @ArraySchema(schema = @Schema(description = "공인중개사 고유 식별 아이디",
+            example = "a1d28840-ec14-4f97-ae81-4c8fee84167e"))
+    private List<String> agentIds;
+
+    @JsonProperty("decision")
+    @Schema(description = "승인(ACCEPT) 또는 거부(REJECT)", example = "ACCEPT")
+    private Decision decision;
+
+    @JsonProperty("reason")
+    @Schema(description = "가입 요청 거부 이유, 거부할 때만 사용합니다.",
+            example = "공인중개사 등록 번호가 유효하지 않습니다.")
+    private String reason;
+}
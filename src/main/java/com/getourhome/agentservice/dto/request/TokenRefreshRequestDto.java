@@ -0,0 +1,22 @@
+package com.getourhome.agentservice.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(title = "JWT 재발급 요청 DTO")
+public class TokenRefreshRequestDto {
+    @NotBlank(message = "refresh token을 입력해주세요")
+    @JsonProperty("refresh_token")
+    @Schema(description = "로그인 또는 재발급 응답으로 받은 refresh token",
+            example = "q3Jb7m6Z0S9vYk2qgJ8i6oX1n4tT5uWc0fHhLrPzA2E")
+    private String refreshToken;
+}
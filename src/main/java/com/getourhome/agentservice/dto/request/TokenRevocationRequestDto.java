@@ -0,0 +1,36 @@
+package com.getourhome.agentservice.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(title = "JWT 폐기 요청 DTO")
+public class TokenRevocationRequestDto {
+    @JsonProperty("token_id")
+    @Schema(description = "폐기할 토큰의 jti", example = "0b6c7e0e-6a38-4a57-9f43-2f0f3c1f7d7a")
+    private String tokenId;
+
+    @JsonProperty("agent_id")
+    @Schema(description = "토큰 전체를 폐기할 공인중개사 고유 식별 아이디",
+            example = "a1d28840-ec14-4f97-ae81-4c8fee84167e")
+    private UUID agentId;
+
+    @JsonProperty("issued_before")
+    @Schema(description = "이 시각 이전에 발급된 공인중개사 토큰을 폐기합니다. 생략하면 현재 시각입니다.",
+            example = "2024-07-01T00:00:00Z")
+    private Instant issuedBefore;
+
+    @JsonProperty("reason")
+    @Schema(description = "폐기 사유", example = "토큰 유출")
+    private String reason;
+}
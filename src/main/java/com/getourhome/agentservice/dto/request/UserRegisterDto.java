@@ -42,9 +42,13 @@ public class UserRegisterDto {
 
     @Builder
     public User toEntity(PasswordEncoder passwordEncoder) {
+        return toEntity(passwordEncoder.encode(password));
+    }
+
+    public User toEntity(String encodedPassword) {
         return User.builder()
                 .userId(userId)
-                .password(passwordEncoder.encode(password))
+                .password(encodedPassword)
                 .username(username)
                 .agencyName(agencyName)
                 .phoneNumber(phoneNumber)
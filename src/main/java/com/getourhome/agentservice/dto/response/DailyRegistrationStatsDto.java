@@ -0,0 +1,24 @@
+package com.getourhome.agentservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@Schema(title = "일별 공인중개사 가입 요청 통계 DTO")
+public class DailyRegistrationStatsDto {
+    @Schema(description = "날짜", example = "2026-01-01")
+    private LocalDate date;
+
+    @Schema(description = "가입 요청 건수", example = "12")
+    private long registered;
+
+    @Schema(description = "승인 건수", example = "10")
+    private long accepted;
+
+    @Schema(description = "거부 건수", example = "1")
+    private long rejected;
+}
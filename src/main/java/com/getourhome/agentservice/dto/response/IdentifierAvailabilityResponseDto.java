@@ -0,0 +1,19 @@
+package com.getourhome.agentservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(title = "식별자 사용 가능 여부 응답 DTO")
+public class IdentifierAvailabilityResponseDto {
+    @Schema(description = "사용자 아이디 사용 가능 여부", example = "true")
+    private Boolean userIdAvailable;
+    @Schema(description = "이메일 사용 가능 여부", example = "false")
+    private Boolean emailAvailable;
+    @Schema(description = "공인중개사 등록번호 사용 가능 여부", example = "true")
+    private Boolean registrationNumberAvailable;
+}
@@ -0,0 +1,39 @@
+package com.getourhome.agentservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(title = "공인중개사 일괄 등록 행별 결과 DTO")
+public class ImportRowResultDto {
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE_USER_ID,
+        DUPLICATE_EMAIL,
+        DUPLICATE_REGISTRATION_NUMBER,
+        FAILED
+    }
+
+    @Schema(description = "업로드 파일의 행 번호 (헤더 제외, 1부터 시작)", example = "1")
+    private int row;
+
+    @Schema(description = "사용자 아이디", example = "testerkim")
+    private String userId;
+
+    @Schema(description = "등록 결과", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "등록된 공인중개사 고유 식별 아이디", example = "a1d28840-ec14-4f97-ae81-4c8fee84167e")
+    private UUID id;
+
+    @Schema(description = "실패 사유")
+    private List<String> errors;
+}
@@ -0,0 +1,13 @@
+package com.getourhome.agentservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class RegistrationDecisionResponseDto {
+    private int updated;
+    private List<RegistrationDecisionResultDto> results;
+}
@@ -0,0 +1,24 @@
+package com.getourhome.agentservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(title = "공인중개사 가입 요청 일괄 처리 결과 DTO")
+public class RegistrationDecisionResultDto {
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        // 이미 승인 또는 거부된 가입 요청
+        CONFLICT,
+        INVALID_ID
+    }
+
+    @Schema(description = "요청한 공인중개사 고유 식별 아이디", example = "a1d28840-ec14-4f97-ae81-4c8fee84167e")
+    private String agentId;
+
+    @Schema(description = "처리 결과", example = "UPDATED")
+    private Outcome outcome;
+}
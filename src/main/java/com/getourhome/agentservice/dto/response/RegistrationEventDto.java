@@ -0,0 +1,23 @@
+package com.getourhome.agentservice.dto.response;
+
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Builder
+@Schema(title = "공인중개사 가입 요청 이벤트 DTO")
+public class RegistrationEventDto {
+    @Schema(description = "공인중개사 고유 식별 아이디", example = "a1d28840-ec14-4f97-ae81-4c8fee84167e")
+    private UUID agentId;
+
+    @Schema(description = "변경된 가입 요청 상태, 신규 가입이면 PENDING", example = "PENDING")
+    private RegistrationStatus registrationStatus;
+
+    @Schema(description = "이벤트 발생 시각")
+    private Instant occurredAt;
+}
@@ -0,0 +1,17 @@
+package com.getourhome.agentservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class RegistrationPageResponseDto {
+    private List<RegistrationSummaryDto> items;
+
+    // 다음 페이지가 없으면 응답에서 생략합니다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
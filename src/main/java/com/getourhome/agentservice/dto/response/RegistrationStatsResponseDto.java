@@ -0,0 +1,24 @@
+package com.getourhome.agentservice.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(title = "공인중개사 가입 요청 통계 DTO")
+public class RegistrationStatsResponseDto {
+    @Schema(description = "승인 대기 중인 공인중개사 수", example = "3")
+    private long pending;
+
+    @Schema(description = "승인된 공인중개사 수", example = "120")
+    private long accepted;
+
+    @Schema(description = "거부된 공인중개사 수", example = "7")
+    private long rejected;
+
+    @Schema(description = "최근 날짜부터 일별 건수")
+    private List<DailyRegistrationStatsDto> daily;
+}
@@ -0,0 +1,39 @@
+package com.getourhome.agentservice.dto.response;
+
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(title = "공인중개사 가입 요청 목록 항목 DTO")
+public class RegistrationSummaryDto {
+    @Schema(description = "공인중개사 고유 식별 아이디", example = "a1d28840-ec14-4f97-ae81-4c8fee84167e")
+    private UUID id;
+    @Schema(description = "사용자 아이디", example = "testerkim")
+    private String userId;
+    @Schema(description = "사용자 이름", example = "김테스트")
+    private String username;
+    @Schema(description = "공인중개사 상호명", example = "테스트 공인중개사")
+    private String agencyName;
+    @Schema(description = "공인중개사 등록번호", example = "22222-1111-00000")
+    private String registrationNumber;
+    @Schema(description = "사용자 전화번호", example = "01012341234")
+    private String phoneNumber;
+    @Schema(description = "사용자 이메일", example = "tester@tests.com")
+    private String email;
+    @Schema(description = "가입 요청 상태", example = "PENDING")
+    private RegistrationStatus registrationStatus;
+    @Schema(description = "가입 요청 거부 이유")
+    private String rejectReason;
+    @Schema(description = "가입 요청 시각")
+    private Instant createdAt;
+    @Schema(description = "승인/거부 요청시 version으로 전달하면 그 사이 변경된 경우 409로 응답합니다.", example = "0")
+    private long version;
+}
@@ -0,0 +1,55 @@
+package com.getourhome.agentservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.getourhome.agentservice.util.JwtClaims;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(title = "JWT 검증 결과 DTO")
+public class TokenVerificationResultDto {
+    @Schema(description = "토큰 유효 여부", example = "true")
+    private boolean valid;
+
+    @Schema(description = "공인중개사 고유 식별 아이디", example = "a1d28840-ec14-4f97-ae81-4c8fee84167e")
+    private UUID id;
+
+    @Schema(description = "공인중개사 상호명", example = "테스트 공인중개사")
+    private String agencyName;
+
+    @Schema(description = "사용자 권한", example = "AGENT")
+    private String role;
+
+    @Schema(description = "토큰 발급 시각")
+    private Instant issuedAt;
+
+    @Schema(description = "토큰 만료 시각")
+    private Instant expiresAt;
+
+    @Schema(description = "검증 실패 사유", example = "EXPIRED")
+    private String error;
+
+    public static TokenVerificationResultDto valid(JwtClaims claims) {
+        return TokenVerificationResultDto.builder()
+                .valid(true)
+                .id(claims.id())
+                .agencyName(claims.agencyName())
+                .role(claims.role())
+                .issuedAt(claims.issuedAt())
+                .expiresAt(claims.expiration())
+                .build();
+    }
+
+    public static TokenVerificationResultDto invalid(String error) {
+        return TokenVerificationResultDto.builder()
+                .valid(false)
+                .error(error)
+                .build();
+    }
+}
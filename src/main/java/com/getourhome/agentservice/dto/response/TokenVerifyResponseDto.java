@@ -0,0 +1,12 @@
+package com.getourhome.agentservice.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TokenVerifyResponseDto {
+    private List<TokenVerificationResultDto> results;
+}
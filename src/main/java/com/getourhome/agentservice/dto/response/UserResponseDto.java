@@ -10,5 +10,12 @@ public class UserResponseDto {
     @JsonProperty("jwt")
     private String jwt;
 
+    @JsonProperty("refresh_token")
+    private String refreshToken;
+
+    // jwt 만료까지 남은 시간(초)
+    @JsonProperty("expires_in")
+    private Long expiresIn;
+
     private String role;
 }
\ No newline at end of file
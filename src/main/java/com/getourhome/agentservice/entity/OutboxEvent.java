@@ -0,0 +1,69 @@
+package com.getourhome.agentservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 다른 서비스로 전달할 이벤트를 상태 변경과 같은 트랜잭션에서 기록하는 outbox 테이블입니다.
+ * 전달이 끝나면 published_at이 채워지고, 실패하면 next_attempt_at까지 재시도를 미룹니다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "outbox_events", indexes = {
+        // relay가 미전달 이벤트를 id 순으로 가져갈 때 사용합니다.
+        @Index(name = "idx_outbox_events_published_at_id", columnList = "published_at, id")
+})
+public class OutboxEvent {
+    public static final String REGISTRATION_ACCEPTED = "registration.accepted";
+    public static final String REGISTRATION_REJECTED = "registration.rejected";
+
+    // IDENTITY는 insert batch를 막으므로 시퀀스를 미리 할당받아 일괄 승인시 한 번에 insert합니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Setter
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Setter
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Setter
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Setter
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.getourhome.agentservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 가입 요청 통계 요약 테이블입니다. 상태별 전체 건수와 일별 가입/승인/거부 건수를 키 하나당 한 행으로 저장합니다.
+ * 키 형식은 {@code status.PENDING}, {@code registered.2026-01-01}처럼 {@code <종류>.<상태 또는 날짜>}입니다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "registration_stats")
+public class RegistrationStat {
+    @Id
+    @Column(name = "stat_key", length = 40)
+    private String statKey;
+
+    @Column(name = "stat_value", nullable = false)
+    private long value;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,45 @@
+package com.getourhome.agentservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 특정 토큰(jti) 폐기
+    @Column(name = "token_id")
+    private String tokenId;
+
+    // 공인중개사의 issuedBefore 이전 발급 토큰 전체 폐기
+    @Column(name = "agent_id")
+    private UUID agentId;
+
+    @Column(name = "issued_before")
+    private Instant issuedBefore;
+
+    @Column(name = "reason")
+    private String reason;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (revokedAt == null) {
+            revokedAt = Instant.now();
+        }
+    }
+}
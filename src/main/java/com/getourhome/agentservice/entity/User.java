@@ -1,9 +1,13 @@
 package com.getourhome.agentservice.entity;
 
+import com.getourhome.agentservice.util.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
@@ -11,18 +15,30 @@ import java.util.UUID;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "Users")
+@Table(name = "Users", uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_USER_ID, columnNames = "user_id"),
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = User.UK_REGISTRATION_NUMBER, columnNames = "registration_number")
+}, indexes = {
+        // 가입 요청 목록 keyset 페이지네이션 (registration_status, created_at, id)
+        @Index(name = "idx_users_status_created_at", columnList = "registration_status, created_at, id"),
+        // 상호명 일치 조회 후 가입순 정렬
+        @Index(name = "idx_users_agency_name_created_at", columnList = "agency_name, created_at, id"),
+        // 일별 승인/거부 건수 보정시 사용합니다.
+        @Index(name = "idx_users_status_decided_at", columnList = "registration_status, decided_at")
+})
 public class User {
+    public static final String UK_USER_ID = "uk_users_user_id";
+    public static final String UK_EMAIL = "uk_users_email";
+    public static final String UK_REGISTRATION_NUMBER = "uk_users_registration_number";
+
+    // 시간 순서 UUID(v7)로 발급합니다. 이전에 발급된 v4 id도 같은 uuid 컬럼에 그대로 남습니다.
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(
-            name = "UUID",
-            strategy = "org.hibernate.id.UUIDGenerator"
-    )
+    @GeneratedUuidV7
     @Column(updatable = false, nullable = false)
     private UUID id;
 
-    @Column(name = "user_id", nullable = false, unique = true)
+    @Column(name = "user_id", nullable = false)
     private String userId;
 
     @Setter
@@ -46,11 +62,13 @@ public class User {
     private String password;
 
     @Setter
-    @Column(nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
 
+    // 마이그레이션의 smallint 컬럼과 H2, PostgreSQL 모두에서 같은 타입으로 검증되도록 고정합니다.
     @Setter
     @Enumerated(EnumType.ORDINAL)
+    @JdbcTypeCode(SqlTypes.SMALLINT)
     @Column(name = "registration_status", nullable = false)
     private RegistrationStatus registrationStatus = RegistrationStatus.PENDING;
 
@@ -58,11 +76,27 @@ public class User {
     @Column(name = "reject_reason")
     private String rejectReason;
 
+    // 관리자 간 동시 승인/거부를 감지하기 위한 version, 상태 전환 UPDATE에서 함께 증가시킵니다.
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // 가입 요청 시각, DB 정밀도에 맞춰 마이크로초 단위로 저장합니다.
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    // 승인 또는 거부된 시각, 상태 전환 UPDATE에서만 채워집니다.
+    @Column(name = "decided_at")
+    private Instant decidedAt;
+
     @PrePersist
     protected void onCreate() {
         if (registrationStatus == null) {
             registrationStatus = RegistrationStatus.PENDING;
         }
+        if (createdAt == null) {
+            createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        }
     }
 }
 
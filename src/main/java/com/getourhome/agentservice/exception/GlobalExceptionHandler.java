@@ -0,0 +1,40 @@
+package com.getourhome.agentservice.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingRejected(PasswordHashingRejectedException e) {
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, e.getRetryAfter(), "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<Map<String, String>> handleLoginThrottled(LoginThrottledException e) {
+        return retryLater(HttpStatus.TOO_MANY_REQUESTS, e.getRetryAfter(), "로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @ExceptionHandler(PasswordHashingTimeoutException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingTimeout(PasswordHashingTimeoutException e) {
+        return retryLater(HttpStatus.SERVICE_UNAVAILABLE, e.getRetryAfter(), "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private ResponseEntity<Map<String, String>> retryLater(HttpStatus status, Duration retryAfter, String message) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", message);
+        // Retry-After는 초 단위 정수만 허용되므로 1초 미만은 올림합니다.
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(seconds))
+                .body(response);
+    }
+}
@@ -0,0 +1,18 @@
+package com.getourhome.agentservice.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 계정 또는 클라이언트 주소의 로그인 시도가 제한을 넘었을 때 발생합니다. 429 Too Many Requests로 응답합니다.
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public LoginThrottledException(Duration retryAfter) {
+        super("로그인 시도 횟수를 초과했습니다.");
+        this.retryAfter = retryAfter;
+    }
+}
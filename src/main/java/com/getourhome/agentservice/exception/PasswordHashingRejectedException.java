@@ -0,0 +1,18 @@
+package com.getourhome.agentservice.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 대기열이 가득 차서 요청을 받지 않았을 때 발생합니다. 429 Too Many Requests로 응답합니다.
+ */
+@Getter
+public class PasswordHashingRejectedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public PasswordHashingRejectedException(Duration retryAfter) {
+        super("비밀번호 해싱 대기열이 가득 찼습니다.");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,18 @@
+package com.getourhome.agentservice.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱이 요청 deadline 안에 끝나지 않았을 때 발생합니다. 503 Service Unavailable로 응답합니다.
+ */
+@Getter
+public class PasswordHashingTimeoutException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public PasswordHashingTimeoutException(Duration retryAfter) {
+        super("비밀번호 해싱이 제한 시간 안에 끝나지 않았습니다.");
+        this.retryAfter = retryAfter;
+    }
+}
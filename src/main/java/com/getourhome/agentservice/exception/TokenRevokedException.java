@@ -0,0 +1,12 @@
+package com.getourhome.agentservice.exception;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * 서명과 만료는 유효하지만 jti 또는 공인중개사 단위로 폐기된 토큰일 때 발생합니다.
+ */
+public class TokenRevokedException extends JwtException {
+    public TokenRevokedException() {
+        super("폐기된 토큰입니다.");
+    }
+}
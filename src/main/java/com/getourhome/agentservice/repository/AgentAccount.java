@@ -0,0 +1,23 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.entity.RegistrationStatus;
+
+import java.util.UUID;
+
+/**
+ * 로그인과 토큰 재발급에 필요한 컬럼만 조회하는 projection입니다. {@code AgentCache}에 그대로 보관합니다.
+ * {@link UserRepository}의 생성자 표현식으로 바로 만들어지므로 영속성 컨텍스트에 엔티티와 스냅샷이 남지 않습니다.
+ */
+public record AgentAccount(
+        UUID id,
+        String userId,
+        String agencyName,
+        String password,
+        RegistrationStatus registrationStatus
+) {
+    // 비밀번호 해시가 로그에 남지 않도록 제외합니다.
+    @Override
+    public String toString() {
+        return "AgentAccount[id=" + id + ", userId=" + userId + ", registrationStatus=" + registrationStatus + "]";
+    }
+}
@@ -0,0 +1,37 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * 전달할 이벤트를 잠그고 가져옵니다. lock timeout -2는 Hibernate에서 SKIP LOCKED로 변환되어
+     * 다른 인스턴스가 잡고 있는 행은 건너뛰므로 여러 relay가 나눠서 처리할 수 있습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e " +
+            "where e.publishedAt is null and e.nextAttemptAt <= :now " +
+            "order by e.id")
+    List<OutboxEvent> claimPending(@Param("now") Instant now, Limit limit);
+
+    Optional<OutboxEvent> findFirstByPublishedAtIsNullOrderByIdAsc();
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :before")
+    int deleteAllPublishedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,29 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.id = :id")
+    int consumeById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.agentId = :agentId")
+    int deleteAllByAgentId(@Param("agentId") UUID agentId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :now")
+    int deleteAllExpired(@Param("now") Instant now);
+}
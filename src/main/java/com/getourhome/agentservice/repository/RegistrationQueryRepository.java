@@ -0,0 +1,21 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.dto.response.RegistrationSummaryDto;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface RegistrationQueryRepository {
+    /**
+     * (created_at, id) 순으로 {@code after} 다음부터 최대 {@code limit}건을 조회합니다. null인 조건은 적용하지 않습니다.
+     */
+    List<RegistrationSummaryDto> findRegistrationPage(RegistrationStatus status,
+                                                      String agencyName,
+                                                      Instant submittedFrom,
+                                                      Instant submittedTo,
+                                                      Instant afterCreatedAt,
+                                                      UUID afterId,
+                                                      int limit);
+}
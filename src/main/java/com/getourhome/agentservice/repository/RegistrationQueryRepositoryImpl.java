@@ -0,0 +1,69 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.dto.response.RegistrationSummaryDto;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 가입 요청 목록 조회입니다. OFFSET 대신 마지막으로 본 (created_at, id) 다음부터 읽으므로
+ * 몇 번째 페이지든 인덱스에서 바로 시작 위치를 찾습니다. 비밀번호 해시를 포함한 엔티티 대신 필요한 컬럼만 조회합니다.
+ * <p>
+ * 상호명 조건은 일치 비교입니다. {@code agency_name = ? order by created_at, id}는 (agency_name, created_at, id) 인덱스를
+ * 순서대로 읽고 limit에서 멈춥니다. 앞부분 LIKE 검색은 일치하는 행을 모두 읽어 정렬해야 하고, PostgreSQL의 C가 아닌
+ * collation에서는 pattern_ops 인덱스 없이 인덱스로 찾지도 못하므로 지원하지 않습니다.
+ * (EXPLAIN: Index Scan using idx_users_agency_name_created_at, Sort 노드 없음)
+ */
+public class RegistrationQueryRepositoryImpl implements RegistrationQueryRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RegistrationSummaryDto> findRegistrationPage(RegistrationStatus status,
+                                                             String agencyName,
+                                                             Instant submittedFrom,
+                                                             Instant submittedTo,
+                                                             Instant afterCreatedAt,
+                                                             UUID afterId,
+                                                             int limit) {
+        StringBuilder jpql = new StringBuilder()
+                .append("select new com.getourhome.agentservice.dto.response.RegistrationSummaryDto(")
+                .append("u.id, u.userId, u.username, u.agencyName, u.registrationNumber, u.phoneNumber, u.email, ")
+                .append("u.registrationStatus, u.rejectReason, u.createdAt, u.version) ")
+                .append("from User u where u.createdAt is not null");
+        Map<String, Object> parameters = new HashMap<>();
+        if (status != null) {
+            jpql.append(" and u.registrationStatus = :status");
+            parameters.put("status", status);
+        }
+        if (agencyName != null) {
+            jpql.append(" and u.agencyName = :agencyName");
+            parameters.put("agencyName", agencyName);
+        }
+        if (submittedFrom != null) {
+            jpql.append(" and u.createdAt >= :submittedFrom");
+            parameters.put("submittedFrom", submittedFrom);
+        }
+        if (submittedTo != null) {
+            jpql.append(" and u.createdAt < :submittedTo");
+            parameters.put("submittedTo", submittedTo);
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            jpql.append(" and (u.createdAt > :afterCreatedAt or (u.createdAt = :afterCreatedAt and u.id > :afterId))");
+            parameters.put("afterCreatedAt", afterCreatedAt);
+            parameters.put("afterId", afterId);
+        }
+        jpql.append(" order by u.createdAt asc, u.id asc");
+
+        TypedQuery<RegistrationSummaryDto> query = entityManager.createQuery(jpql.toString(), RegistrationSummaryDto.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.entity.RegistrationStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+@Repository
+public interface RegistrationStatRepository extends JpaRepository<RegistrationStat, String> {
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update RegistrationStat s set s.value = s.value + :delta, s.updatedAt = :now where s.statKey = :key")
+    int addToValue(@Param("key") String key, @Param("delta") long delta, @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update RegistrationStat s set s.value = :value, s.updatedAt = :now where s.statKey = :key")
+    int setValue(@Param("key") String key, @Param("value") long value, @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from RegistrationStat s where s.statKey in :keys")
+    int deleteAllByKeys(@Param("keys") Collection<String> keys);
+}
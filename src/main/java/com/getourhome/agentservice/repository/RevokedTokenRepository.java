@@ -0,0 +1,13 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    List<RevokedToken> findByRevokedAtGreaterThanEqual(Instant revokedAt);
+}
@@ -0,0 +1,12 @@
+package com.getourhome.agentservice.repository;
+
+/**
+ * 회원가입 중복 확인에 필요한 식별자만 조회하는 projection입니다.
+ */
+public interface UserIdentifiers {
+    String getUserId();
+
+    String getEmail();
+
+    String getRegistrationNumber();
+}
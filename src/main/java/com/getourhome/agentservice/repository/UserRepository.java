@@ -1,16 +1,122 @@
 package com.getourhome.agentservice.repository;
 
+import com.getourhome.agentservice.entity.RegistrationStatus;
 import com.getourhome.agentservice.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, RegistrationQueryRepository {
     Optional<User> findByUserId(String userId);
     Optional<User> findByEmail(String email);
     Optional<User> findByRegistrationNumber(String registrationNumber);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.getourhome.agentservice.repository.AgentAccount(" +
+            "u.id, u.userId, u.agencyName, u.password, u.registrationStatus) " +
+            "from User u where u.userId = :userId")
+    Optional<AgentAccount> findCredentialsByUserId(@Param("userId") String userId);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.getourhome.agentservice.repository.AgentAccount(" +
+            "u.id, u.userId, u.agencyName, u.password, u.registrationStatus) " +
+            "from User u where u.id = :id")
+    Optional<AgentAccount> findCredentialsById(@Param("id") UUID id);
+
+    @Query("select u.userId as userId, u.email as email, u.registrationNumber as registrationNumber " +
+            "from User u " +
+            "where u.userId = :userId or u.email = :email or u.registrationNumber = :registrationNumber")
+    List<UserIdentifiers> findIdentifierConflicts(@Param("userId") String userId,
+                                                  @Param("email") String email,
+                                                  @Param("registrationNumber") String registrationNumber);
+
+    @Query("select u.userId as userId, u.email as email, u.registrationNumber as registrationNumber " +
+            "from User u " +
+            "where u.userId in :userIds or u.email in :emails or u.registrationNumber in :registrationNumbers")
+    List<UserIdentifiers> findIdentifierConflictsIn(@Param("userIds") Collection<String> userIds,
+                                                    @Param("emails") Collection<String> emails,
+                                                    @Param("registrationNumbers") Collection<String> registrationNumbers);
+
+    @Query("select u.userId as userId, u.email as email, u.registrationNumber as registrationNumber from User u")
+    List<UserIdentifiers> findAllIdentifiers();
+
+    @Query("select u.id from User u where u.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u.id from User u where u.id in :ids and u.registrationStatus = :status")
+    List<UUID> lockIdsByRegistrationStatus(@Param("ids") Collection<UUID> ids,
+                                           @Param("status") RegistrationStatus status);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update User u " +
+            "set u.registrationStatus = :to, u.rejectReason = :rejectReason, u.decidedAt = :decidedAt, " +
+            "u.version = u.version + 1 " +
+            "where u.id in :ids and u.registrationStatus = :from")
+    int transitionRegistrationStatus(@Param("ids") Collection<UUID> ids,
+                                     @Param("from") RegistrationStatus from,
+                                     @Param("to") RegistrationStatus to,
+                                     @Param("rejectReason") String rejectReason,
+                                     @Param("decidedAt") Instant decidedAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update User u " +
+            "set u.registrationStatus = :to, u.rejectReason = :rejectReason, u.decidedAt = :decidedAt, " +
+            "u.version = u.version + 1 " +
+            "where u.id = :id and u.registrationStatus = :from")
+    int transitionRegistrationStatus(@Param("id") UUID id,
+                                     @Param("from") RegistrationStatus from,
+                                     @Param("to") RegistrationStatus to,
+                                     @Param("rejectReason") String rejectReason,
+                                     @Param("decidedAt") Instant decidedAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update User u " +
+            "set u.registrationStatus = :to, u.rejectReason = :rejectReason, u.decidedAt = :decidedAt, " +
+            "u.version = u.version + 1 " +
+            "where u.id = :id and u.registrationStatus = :from and u.version = :version")
+    int transitionRegistrationStatus(@Param("id") UUID id,
+                                     @Param("from") RegistrationStatus from,
+                                     @Param("to") RegistrationStatus to,
+                                     @Param("rejectReason") String rejectReason,
+                                     @Param("decidedAt") Instant decidedAt,
+                                     @Param("version") long version);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") UUID id, @Param("password") String password);
+
+    long countByRegistrationStatus(RegistrationStatus registrationStatus);
+
+    @Query("select count(u) from User u " +
+            "where u.registrationStatus = :status and u.createdAt >= :from and u.createdAt < :to")
+    long countCreatedBetween(@Param("status") RegistrationStatus status,
+                             @Param("from") Instant from,
+                             @Param("to") Instant to);
+
+    @Query("select count(u) from User u " +
+            "where u.registrationStatus = :status and u.decidedAt >= :from and u.decidedAt < :to")
+    long countDecidedBetween(@Param("status") RegistrationStatus status,
+                             @Param("from") Instant from,
+                             @Param("to") Instant to);
+
+    boolean existsByUserId(String userId);
+
+    boolean existsByEmail(String email);
+
+    boolean existsByRegistrationNumber(String registrationNumber);
 //    Optional<User> findById(UUID uuid);
 }
@@ -0,0 +1,173 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.repository.AgentAccount;
+import com.getourhome.agentservice.repository.UserRepository;
+import com.getourhome.agentservice.util.ReplicaReads;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link UserRepository} 앞에서 공인중개사 정보를 id와 user_id로 조회하는 read-through 캐시입니다.
+ * <p>
+ * user_id는 바뀌지 않으므로 user_id → id 매핑과 id → {@link AgentAccount}를 따로 보관하고,
+ * 변경시에는 id 항목만 무효화합니다. 같은 키의 동시 miss는 Caffeine이 한 번의 조회로 합쳐 줍니다.
+ * 존재하지 않는 키는 캐시하지 않습니다.
+ * 가입과 상태 전환은 커밋 후 {@link RegistrationEvent}로, 비밀번호 재해싱은 {@link #evict(UUID)}로 무효화하며
+ * {@link AgentInvalidationChannel}로 다른 인스턴스에도 전파합니다.
+ * <p>
+ * 캐시 miss는 엔티티 대신 {@link AgentAccount} projection을
+ * {@link ReplicaReads}의 읽기 전용 트랜잭션에서 replica로 조회합니다. 다만 무효화된 지 read-your-writes-window가 지나지 않은 id는
+ * replica가 아직 변경을 받지 못했을 수 있으므로 primary에서 읽어 오래된 상태가 캐시되지 않게 합니다.
+ * <p>
+ * 가상 스레드 모드({@code spring.threads.virtual.enabled})에서는 조회를 별도 가상 스레드에서 실행합니다.
+ * 동기 캐시는 ConcurrentHashMap의 synchronized 구간 안에서 JDBC 조회를 하므로 요청 가상 스레드가 carrier에 고정됩니다.
+ */
+@Service
+public class AgentCache implements MeterBinder {
+    private final UserRepository userRepository;
+    private final AgentInvalidationChannel invalidationChannel;
+    private final ReplicaReads replicaReads;
+    private final AsyncLoadingCache<UUID, AgentAccount> accountsById;
+    private final AsyncLoadingCache<String, UUID> idsByUserId;
+    // 최근에 변경되어 primary에서 읽어야 하는 id
+    private final Cache<UUID, Boolean> recentlyWritten;
+    // 무효화할 때마다 증가합니다. 조회 도중 무효화가 있었는지 확인하는 데 사용합니다.
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AgentCache(
+            UserRepository userRepository,
+            AgentInvalidationChannel invalidationChannel,
+            ReplicaReads replicaReads,
+            @Value("${agent.cache.maximum-size:10000}") long maximumSize,
+            @Value("${agent.cache.ttl:PT5M}") Duration ttl,
+            @Value("${agent.cache.read-your-writes-window:PT5S}") Duration readYourWritesWindow,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this(userRepository, invalidationChannel, replicaReads, maximumSize, ttl, readYourWritesWindow,
+                virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : Runnable::run);
+    }
+
+    AgentCache(UserRepository userRepository, AgentInvalidationChannel invalidationChannel, ReplicaReads replicaReads,
+               long maximumSize, Duration ttl, Duration readYourWritesWindow, Executor loadExecutor) {
+        this.userRepository = userRepository;
+        this.invalidationChannel = invalidationChannel;
+        this.replicaReads = replicaReads;
+        this.recentlyWritten = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+        this.accountsById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .executor(loadExecutor)
+                .buildAsync(this::loadById);
+        this.idsByUserId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .executor(loadExecutor)
+                .buildAsync(this::loadIdByUserId);
+        invalidationChannel.subscribe(this::evictLocally);
+    }
+
+    public Optional<AgentAccount> findById(UUID id) {
+        return Optional.ofNullable(join(accountsById.get(id)));
+    }
+
+    public Optional<AgentAccount> findByUserId(String userId) {
+        UUID id = join(idsByUserId.get(userId));
+        if (id == null) {
+            return Optional.empty();
+        }
+        AgentAccount account = join(accountsById.get(id));
+        if (account == null) {
+            // 매핑된 행이 더 이상 없으면 매핑을 버리고 한 번 더 조회합니다.
+            idsByUserId.synchronous().invalidate(userId);
+            id = join(idsByUserId.get(userId));
+            account = id == null ? null : join(accountsById.get(id));
+        }
+        return Optional.ofNullable(account);
+    }
+
+    public void evict(UUID id) {
+        evictLocally(id);
+        invalidationChannel.publish(id);
+    }
+
+    public void evictAll() {
+        accountsById.synchronous().invalidateAll();
+        idsByUserId.synchronous().invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationEvent(RegistrationEvent event) {
+        evict(event.agentId());
+    }
+
+    private void evictLocally(UUID id) {
+        recentlyWritten.put(id, Boolean.TRUE);
+        evictions.incrementAndGet();
+        accountsById.synchronous().invalidate(id);
+    }
+
+    private AgentAccount loadById(UUID id) {
+        if (recentlyWritten.getIfPresent(id) != null) {
+            return userRepository.findCredentialsById(id).orElse(null);
+        }
+        return replicaReads.read(() -> userRepository.findCredentialsById(id).orElse(null));
+    }
+
+    private UUID loadIdByUserId(String userId) {
+        long generation = evictions.get();
+        AgentAccount account = replicaReads.read(
+                () -> userRepository.findCredentialsByUserId(userId).orElse(null));
+        if (account != null && recentlyWritten.getIfPresent(account.id()) != null) {
+            account = userRepository.findCredentialsByUserId(userId).orElse(null);
+        }
+        if (account == null) {
+            return null;
+        }
+        // 같은 조회로 얻은 레코드는 id 캐시에도 넣어 두 번 조회하지 않습니다.
+        // 조회 도중 무효화가 있었다면 이전 상태일 수 있으므로 넣은 항목을 되돌리고 다음 조회에서 다시 읽게 합니다.
+        // 넣은 뒤에 일어난 무효화는 그 무효화가 항목을 지웁니다.
+        CompletableFuture<AgentAccount> loaded = CompletableFuture.completedFuture(account);
+        if (accountsById.asMap().putIfAbsent(account.id(), loaded) == null && evictions.get() != generation) {
+            accountsById.asMap().remove(account.id(), loaded);
+        }
+        return account.id();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, accountsById, "agent.accounts");
+        CaffeineCacheMetrics.monitor(registry, idsByUserId, "agent.ids-by-user-id");
+    }
+}
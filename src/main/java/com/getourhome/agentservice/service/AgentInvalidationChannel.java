@@ -0,0 +1,20 @@
+package com.getourhome.agentservice.service;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 여러 인스턴스의 {@link AgentCache}가 같은 공인중개사 항목을 함께 무효화하도록 변경된 id를 전파하는 채널입니다.
+ * {@code agent.cache.invalidation-channel}로 구현을 선택하며, Redis pub/sub 등은 이 인터페이스를 구현한 빈으로 추가합니다.
+ */
+public interface AgentInvalidationChannel {
+    /**
+     * 다른 인스턴스에 무효화를 알립니다. 자기 자신의 캐시는 호출한 쪽에서 이미 무효화한 상태입니다.
+     */
+    void publish(UUID agentId);
+
+    /**
+     * 다른 인스턴스에서 전파된 무효화를 받을 listener를 등록합니다.
+     */
+    void subscribe(Consumer<UUID> listener);
+}
@@ -3,42 +3,148 @@ package com.getourhome.agentservice.service;
 import com.getourhome.agentservice.dto.request.LoginRequestDto;
 import com.getourhome.agentservice.dto.request.UserRegisterDto;
 import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.exception.PasswordHashingRejectedException;
+import com.getourhome.agentservice.exception.PasswordHashingTimeoutException;
+import com.getourhome.agentservice.repository.AgentAccount;
+import com.getourhome.agentservice.repository.UserIdentifiers;
 import com.getourhome.agentservice.repository.UserRepository;
+import com.getourhome.agentservice.util.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final IdentifierAvailabilityService identifierAvailabilityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AgentCache agentCache;
 
-    public Optional<User> findByUserId(String userId) {
-        return userRepository.findByUserId(userId);
+    public enum RegistrationResult {
+        REGISTERED,
+        DUPLICATE_USER_ID,
+        DUPLICATE_EMAIL,
+        DUPLICATE_REGISTRATION_NUMBER
     }
 
-    public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+    /**
+     * 비밀번호 해싱을 먼저 해싱 풀에 넣고, 해싱되는 동안 중복 확인을 한 번의 조회로 진행합니다.
+     * 중복이 있으면 해싱 결과는 버립니다. 동시에 가입한 요청과의 경합은 unique 제약 위반으로 판별합니다.
+     */
+    public RegistrationResult registerUser(UserRegisterDto userRegisterDto) {
+        PasswordHashingExecutor.Submission<String> encodedPassword =
+                passwordHashingExecutor.submit(() -> passwordEncoder.encode(userRegisterDto.getPassword()));
+        boolean registered = false;
+        try {
+            RegistrationResult conflict = findConflict(userRegisterDto);
+            if (conflict != null) {
+                return conflict;
+            }
+            User user = userRepository.saveAndFlush(userRegisterDto.toEntity(encodedPassword.await()));
+            registered = true;
+            identifierAvailabilityService.register(
+                    userRegisterDto.getUserId(), userRegisterDto.getEmail(), userRegisterDto.getRegistrationNumber());
+            eventPublisher.publishEvent(new RegistrationEvent(user.getId(), user.getRegistrationStatus()));
+            return RegistrationResult.REGISTERED;
+        } catch (DataIntegrityViolationException e) {
+            return translateConstraintViolation(userRegisterDto, e);
+        } finally {
+            if (!registered) {
+                encodedPassword.cancel();
+            }
+        }
+    }
+
+    private RegistrationResult findConflict(UserRegisterDto userRegisterDto) {
+        return conflictOf(userRegisterDto, userRepository.findIdentifierConflicts(
+                userRegisterDto.getUserId(), userRegisterDto.getEmail(), userRegisterDto.getRegistrationNumber()));
     }
 
-    public Optional<User> findByRegistrationNumber(String registrationNumber) {
-        return userRepository.findByRegistrationNumber(registrationNumber);
+    /**
+     * 중복 조회 결과에서 어떤 식별자가 겹치는지 user_id, 이메일, 등록번호 순으로 판별합니다. 겹치지 않으면 null입니다.
+     */
+    static RegistrationResult conflictOf(UserRegisterDto userRegisterDto, List<UserIdentifiers> conflicts) {
+        for (UserIdentifiers conflict : conflicts) {
+            if (Objects.equals(conflict.getUserId(), userRegisterDto.getUserId())) {
+                return RegistrationResult.DUPLICATE_USER_ID;
+            }
+        }
+        for (UserIdentifiers conflict : conflicts) {
+            if (Objects.equals(conflict.getEmail(), userRegisterDto.getEmail())) {
+                return RegistrationResult.DUPLICATE_EMAIL;
+            }
+        }
+        for (UserIdentifiers conflict : conflicts) {
+            if (Objects.equals(conflict.getRegistrationNumber(), userRegisterDto.getRegistrationNumber())) {
+                return RegistrationResult.DUPLICATE_REGISTRATION_NUMBER;
+            }
+        }
+        return null;
     }
 
-    public void registerUser(UserRegisterDto userRegisterDto) {
-        User user = userRegisterDto.toEntity(passwordEncoder);
-        userRepository.save(user);
+    private RegistrationResult translateConstraintViolation(UserRegisterDto userRegisterDto,
+                                                            DataIntegrityViolationException e) {
+        String constraintName = constraintName(e);
+        if (constraintName != null) {
+            if (constraintName.contains(User.UK_USER_ID)) {
+                return RegistrationResult.DUPLICATE_USER_ID;
+            }
+            if (constraintName.contains(User.UK_EMAIL)) {
+                return RegistrationResult.DUPLICATE_EMAIL;
+            }
+            if (constraintName.contains(User.UK_REGISTRATION_NUMBER)) {
+                return RegistrationResult.DUPLICATE_REGISTRATION_NUMBER;
+            }
+        }
+        // 드라이버가 제약 이름을 알려주지 않으면 어느 값이 먼저 저장됐는지 다시 조회합니다.
+        RegistrationResult conflict = findConflict(userRegisterDto);
+        if (conflict == null) {
+            throw e;
+        }
+        return conflict;
     }
 
-    public User login(LoginRequestDto loginRequestDto) {
-        User user = userRepository.findByUserId(loginRequestDto.getUserId()).orElse(null);
-        if (user == null || !passwordEncoder.matches(loginRequestDto.getPassword(), user.getPassword())) {
+    private static String constraintName(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+
+    public AgentAccount login(LoginRequestDto loginRequestDto) {
+        AgentAccount account = agentCache.findByUserId(loginRequestDto.getUserId()).orElse(null);
+        if (account == null || !passwordEncoder.matches(loginRequestDto.getPassword(), account.password())) {
             return null;
         }
 
-        return user;
+        if (passwordEncoder.upgradeEncoding(account.password())) {
+            rehashPassword(account, loginRequestDto.getPassword());
+        }
+        return account;
+    }
+
+    // 저장된 해시가 현재 cost 정책과 다르면 로그인에 성공한 평문 비밀번호로 다시 해싱합니다.
+    private void rehashPassword(AgentAccount account, String rawPassword) {
+        try {
+            userRepository.updatePassword(account.id(), passwordEncoder.encode(rawPassword));
+            agentCache.evict(account.id());
+        } catch (PasswordHashingRejectedException | PasswordHashingTimeoutException e) {
+            // 재해싱은 다음 로그인에서 다시 시도하면 되므로 로그인 자체는 실패시키지 않습니다.
+            log.info("Skipped password rehash for user {}: {}", account.userId(), e.getMessage());
+        }
     }
 }
@@ -0,0 +1,54 @@
+package com.getourhome.agentservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 로컬 개발, 테스트용 sink로 outbox 이벤트를 한 줄에 하나씩 NDJSON 파일 끝에 덧붙입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "agent.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileOutboxSink(
+            ObjectMapper objectMapper,
+            @Value("${agent.outbox.file.path:build/outbox-events.ndjson}") Path path
+    ) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxMessage message : messages) {
+                ObjectNode line = objectMapper.createObjectNode();
+                line.put("id", message.id());
+                line.put("event_type", message.eventType());
+                line.put("aggregate_id", message.aggregateId().toString());
+                line.put("created_at", message.createdAt().toString());
+                line.set("payload", objectMapper.readTree(message.payload()));
+                writer.write(objectMapper.writeValueAsString(line));
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.repository.UserIdentifiers;
+import com.getourhome.agentservice.repository.UserRepository;
+import com.getourhome.agentservice.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 회원가입 폼에서 user_id, 이메일, 공인중개사 등록번호의 사용 가능 여부를 확인합니다.
+ * <p>
+ * 사용 중인 식별자를 Bloom filter에 담아 두고, 음성이면 DB 조회 없이 사용 가능으로 응답합니다.
+ * 양성일 때만 DB에서 실제로 존재하는지 확인합니다.
+ * 다른 노드에서 가입하거나 삭제된 사용자는 주기적으로 테이블 전체를 읽어 새 filter로 교체해 반영합니다.
+ */
+@Service
+@Slf4j
+public class IdentifierAvailabilityService {
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final UserRepository userRepository;
+    private final long expectedUsers;
+    private volatile Index index;
+    // 재구성 중에 가입한 사용자는 새 filter에도 넣어 교체할 때 빠지지 않게 합니다.
+    private volatile Index rebuilding;
+
+    public IdentifierAvailabilityService(
+            UserRepository userRepository,
+            @Value("${agent.availability.expected-users:100000}") long expectedUsers
+    ) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.index = new Index(expectedUsers);
+    }
+
+    @PostConstruct
+    public void loadAll() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${agent.availability.reconcile-interval:PT5M}",
+            fixedDelayString = "${agent.availability.reconcile-interval:PT5M}")
+    public synchronized void rebuild() {
+        Index rebuilt = new Index(Math.max(expectedUsers, userRepository.count() * 2));
+        rebuilding = rebuilt;
+        try {
+            List<UserIdentifiers> identifiers = userRepository.findAllIdentifiers();
+            identifiers.forEach(rebuilt::put);
+            index = rebuilt;
+            log.info("Rebuilt identifier availability index with {} users", identifiers.size());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    public void register(String userId, String email, String registrationNumber) {
+        index.put(userId, email, registrationNumber);
+        Index next = rebuilding;
+        if (next != null) {
+            next.put(userId, email, registrationNumber);
+        }
+    }
+
+    public boolean isUserIdAvailable(String userId) {
+        return isAvailable(index.userIds, userId, userRepository::existsByUserId);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        return isAvailable(index.emails, email, userRepository::existsByEmail);
+    }
+
+    public boolean isRegistrationNumberAvailable(String registrationNumber) {
+        return isAvailable(index.registrationNumbers, registrationNumber, userRepository::existsByRegistrationNumber);
+    }
+
+    private static boolean isAvailable(BloomFilter filter, String value, Predicate<String> existsInDatabase) {
+        return !filter.mightContain(value) || !existsInDatabase.test(value);
+    }
+
+    private static final class Index {
+        private final BloomFilter userIds;
+        private final BloomFilter emails;
+        private final BloomFilter registrationNumbers;
+
+        private Index(long expectedInsertions) {
+            this.userIds = new BloomFilter(expectedInsertions, FALSE_POSITIVE_PROBABILITY);
+            this.emails = new BloomFilter(expectedInsertions, FALSE_POSITIVE_PROBABILITY);
+            this.registrationNumbers = new BloomFilter(expectedInsertions, FALSE_POSITIVE_PROBABILITY);
+        }
+
+        private void put(UserIdentifiers identifiers) {
+            put(identifiers.getUserId(), identifiers.getEmail(), identifiers.getRegistrationNumber());
+        }
+
+        private void put(String userId, String email, String registrationNumber) {
+            userIds.put(userId);
+            emails.put(email);
+            registrationNumbers.put(registrationNumber);
+        }
+    }
+}
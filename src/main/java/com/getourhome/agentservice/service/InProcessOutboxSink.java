@@ -0,0 +1,28 @@
+package com.getourhome.agentservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로컬 개발, 테스트용 sink로 outbox 이벤트를 같은 프로세스의 {@link OutboxMessage} 이벤트 리스너로 전달합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "agent.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOutboxSink implements OutboxSink {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            log.debug("Outbox event {} {} {}", message.id(), message.eventType(), message.aggregateId());
+            eventPublisher.publishEvent(message);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.getourhome.agentservice.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 단일 인스턴스용 채널로 다른 인스턴스에 전파하지 않습니다. 여러 인스턴스에서는 캐시 TTL만큼 오래된 값이 보일 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "agent.cache.invalidation-channel", havingValue = "local", matchIfMissing = true)
+public class LocalAgentInvalidationChannel implements AgentInvalidationChannel {
+    @Override
+    public void publish(UUID agentId) {
+    }
+
+    @Override
+    public void subscribe(Consumer<UUID> listener) {
+    }
+}
@@ -1,36 +1,181 @@
 package com.getourhome.agentservice.service;
 
+import com.getourhome.agentservice.dto.request.RegistrationDecisionRequestDto;
 import com.getourhome.agentservice.dto.request.RejectRegistrationRequestDto;
+import com.getourhome.agentservice.dto.response.RegistrationDecisionResultDto;
+import com.getourhome.agentservice.dto.response.RegistrationPageResponseDto;
+import com.getourhome.agentservice.dto.response.RegistrationSummaryDto;
 import com.getourhome.agentservice.entity.RegistrationStatus;
-import com.getourhome.agentservice.entity.User;
 import com.getourhome.agentservice.repository.UserRepository;
+import com.getourhome.agentservice.util.ReplicaReads;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class ManagementService {
+    // IN 절 파라미터 수를 DB 제한보다 충분히 작게 유지합니다.
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
     private final UserRepository userRepository;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReplicaReads replicaReads;
 
-    public User acceptUser(UUID uuid) {
-        User user = userRepository.findById(uuid).orElse(null);
-        if (user == null) {
-            return null;
+    public enum TransitionResult {
+        UPDATED,
+        NOT_FOUND,
+        // 이미 다른 관리자가 처리했거나 version이 달라진 경우
+        CONFLICT
+    }
+
+    /**
+     * 승인 대기 상태인 가입 요청을 조회 없이 조건부 UPDATE 한 번으로 승인합니다.
+     * expectedVersion이 있으면 그 version일 때만 승인합니다.
+     */
+    @Transactional
+    public TransitionResult acceptUser(UUID uuid, Long expectedVersion) {
+        return transition(uuid, RegistrationStatus.ACCEPTED, null, expectedVersion);
+    }
+
+    @Transactional
+    public TransitionResult rejectUser(UUID uuid, RejectRegistrationRequestDto request, Long expectedVersion) {
+        return transition(uuid, RegistrationStatus.REJECTED, request.getReason(), expectedVersion);
+    }
+
+    private TransitionResult transition(UUID uuid, RegistrationStatus to, String rejectReason, Long expectedVersion) {
+        Instant now = Instant.now();
+        int updated = expectedVersion == null
+                ? userRepository.transitionRegistrationStatus(uuid, RegistrationStatus.PENDING, to, rejectReason, now)
+                : userRepository.transitionRegistrationStatus(
+                        uuid, RegistrationStatus.PENDING, to, rejectReason, now, expectedVersion);
+        if (updated > 0) {
+            outboxService.registrationDecided(List.of(uuid), to, rejectReason);
+            eventPublisher.publishEvent(new RegistrationEvent(uuid, to));
+            return TransitionResult.UPDATED;
+        }
+        // 실패한 경우에만 존재 여부를 확인해 응답을 구분합니다.
+        return userRepository.existsById(uuid) ? TransitionResult.CONFLICT : TransitionResult.NOT_FOUND;
+    }
+
+    /**
+     * 여러 공인중개사의 가입 요청을 한 트랜잭션에서 set 단위 UPDATE로 승인하거나 거부합니다.
+     * 승인 대기 상태인 요청만 전환하며, 요청 순서대로 id별 처리 결과를 반환합니다.
+     * 형식이 잘못되었거나 존재하지 않는 id, 이미 처리된 id도 결과에 포함합니다.
+     */
+    @Transactional
+    public List<RegistrationDecisionResultDto> decideAll(List<String> agentIds,
+                                                         RegistrationDecisionRequestDto.Decision decision,
+                                                         String reason) {
+        RegistrationStatus status = decision == RegistrationDecisionRequestDto.Decision.ACCEPT
+                ? RegistrationStatus.ACCEPTED
+                : RegistrationStatus.REJECTED;
+        String rejectReason = status == RegistrationStatus.REJECTED ? reason : null;
+
+        Map<String, UUID> parsedIds = new LinkedHashMap<>();
+        for (String agentId : agentIds) {
+            UUID uuid = parseUuid(agentId);
+            if (uuid != null) {
+                parsedIds.put(agentId, uuid);
+            }
+        }
+
+        Set<UUID> updatedIds = new HashSet<>();
+        Set<UUID> conflictIds = new HashSet<>();
+        List<UUID> ids = List.copyOf(new LinkedHashSet<>(parsedIds.values()));
+        for (int from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size()));
+            // 전환할 행을 잠가 두어야 UPDATE된 id를 정확히 알 수 있습니다.
+            List<UUID> pendingIds = userRepository.lockIdsByRegistrationStatus(chunk, RegistrationStatus.PENDING);
+            if (!pendingIds.isEmpty()) {
+                userRepository.transitionRegistrationStatus(
+                        pendingIds, RegistrationStatus.PENDING, status, rejectReason, Instant.now());
+                updatedIds.addAll(pendingIds);
+                outboxService.registrationDecided(pendingIds, status, rejectReason);
+                pendingIds.forEach(id -> eventPublisher.publishEvent(new RegistrationEvent(id, status)));
+            }
+            if (pendingIds.size() < chunk.size()) {
+                List<UUID> remaining = chunk.stream().filter(id -> !updatedIds.contains(id)).toList();
+                conflictIds.addAll(userRepository.findExistingIds(remaining));
+            }
         }
-        user.setRegistrationStatus(RegistrationStatus.ACCEPTED);
-        user.setRejectReason(null);
-        return userRepository.save(user);
+
+        List<RegistrationDecisionResultDto> results = new ArrayList<>(agentIds.size());
+        for (String agentId : agentIds) {
+            UUID uuid = parsedIds.get(agentId);
+            RegistrationDecisionResultDto.Outcome outcome;
+            if (uuid == null) {
+                outcome = RegistrationDecisionResultDto.Outcome.INVALID_ID;
+            } else if (updatedIds.contains(uuid)) {
+                outcome = RegistrationDecisionResultDto.Outcome.UPDATED;
+            } else if (conflictIds.contains(uuid)) {
+                outcome = RegistrationDecisionResultDto.Outcome.CONFLICT;
+            } else {
+                outcome = RegistrationDecisionResultDto.Outcome.NOT_FOUND;
+            }
+            results.add(RegistrationDecisionResultDto.builder()
+                    .agentId(agentId)
+                    .outcome(outcome)
+                    .build());
+        }
+        return results;
     }
 
-    public User rejectUser(UUID uuid, RejectRegistrationRequestDto request) {
-        User user = userRepository.findById(uuid).orElse(null);
-        if (user == null) {
+    /**
+     * 가입 요청 목록을 (created_at, id) 순으로 조회합니다. cursor가 있으면 그 다음 항목부터 반환합니다.
+     * replica에서 읽으므로 방금 처리한 요청이 잠시 이전 상태로 보일 수 있으며, 처리시 version으로 충돌을 확인합니다.
+     *
+     * @throws IllegalArgumentException cursor 형식이 잘못된 경우
+     */
+    public RegistrationPageResponseDto listRegistrations(RegistrationStatus status,
+                                                         String agencyName,
+                                                         Instant submittedFrom,
+                                                         Instant submittedTo,
+                                                         String cursor,
+                                                         int size) {
+        RegistrationCursor after = cursor == null || cursor.isBlank() ? null : RegistrationCursor.decode(cursor);
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회합니다.
+        List<RegistrationSummaryDto> rows = replicaReads.read(() -> userRepository.findRegistrationPage(
+                status,
+                agencyName == null || agencyName.isBlank() ? null : agencyName,
+                submittedFrom,
+                submittedTo,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                size + 1));
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            RegistrationSummaryDto last = rows.get(size - 1);
+            nextCursor = new RegistrationCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return RegistrationPageResponseDto.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
             return null;
         }
-        user.setRegistrationStatus(RegistrationStatus.REJECTED);
-        user.setRejectReason(request.getReason());
-        return userRepository.save(user);
     }
 }
@@ -0,0 +1,16 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.entity.OutboxEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * sink로 전달하는 outbox 이벤트입니다. 전달은 최소 한 번 보장이므로 수신측은 id로 중복을 걸러야 합니다.
+ */
+public record OutboxMessage(long id, UUID aggregateId, String eventType, String payload, Instant createdAt) {
+    static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(), event.getAggregateId(), event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
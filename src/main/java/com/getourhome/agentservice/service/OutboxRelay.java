@@ -0,0 +1,188 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.entity.OutboxEvent;
+import com.getourhome.agentservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * outbox 테이블의 미전달 이벤트를 batch 단위로 {@link OutboxSink}에 전달합니다.
+ * <p>
+ * batch는 SKIP LOCKED로 잠가서 가져오므로 여러 인스턴스의 relay가 서로 다른 행을 나눠 처리합니다.
+ * sink가 실패하면 batch 전체의 attempts를 올리고 지수 backoff만큼 재시도를 미룹니다.
+ * 전달은 최소 한 번 보장이며, 같은 이벤트가 다시 전달될 수 있습니다.
+ */
+@Service
+@Slf4j
+public class OutboxRelay implements MeterBinder {
+    private static final String METRIC_PREFIX = "outbox.relay";
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration retention;
+    private final Clock clock;
+
+    private volatile Instant oldestPendingCreatedAt;
+    private volatile Counter publishedCounter;
+    private volatile Counter failedCounter;
+    private volatile Timer batchTimer;
+    private volatile Timer deliveryLagTimer;
+
+    @Autowired
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxSink outboxSink,
+            PlatformTransactionManager transactionManager,
+            @Value("${agent.outbox.batch-size:100}") int batchSize,
+            @Value("${agent.outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${agent.outbox.retry-backoff:PT1S}") Duration retryBackoff,
+            @Value("${agent.outbox.max-retry-backoff:PT5M}") Duration maxRetryBackoff,
+            @Value("${agent.outbox.retention:P7D}") Duration retention
+    ) {
+        this(outboxEventRepository, outboxSink, transactionManager,
+                batchSize, maxBatchesPerRun, retryBackoff, maxRetryBackoff, retention, Clock.systemUTC());
+    }
+
+    OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxSink outboxSink,
+                PlatformTransactionManager transactionManager, int batchSize, int maxBatchesPerRun,
+                Duration retryBackoff, Duration maxRetryBackoff, Duration retention, Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    @Scheduled(
+            initialDelayString = "${agent.outbox.poll-interval:PT1S}",
+            fixedDelayString = "${agent.outbox.poll-interval:PT1S}")
+    public void relay() {
+        // 가득 찬 batch가 이어지면 다음 주기를 기다리지 않고 계속 비웁니다.
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (relayBatch() < batchSize) {
+                break;
+            }
+        }
+        oldestPendingCreatedAt = outboxEventRepository.findFirstByPublishedAtIsNullOrderByIdAsc()
+                .map(OutboxEvent::getCreatedAt)
+                .orElse(null);
+    }
+
+    /**
+     * batch 하나를 잠가서 전달합니다. 전달한 이벤트 수를 반환하며, sink가 실패하면 0을 반환합니다.
+     */
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            Instant now = clock.instant();
+            List<OutboxEvent> events = outboxEventRepository.claimPending(now, Limit.of(batchSize));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            long startedAt = System.nanoTime();
+            try {
+                outboxSink.publish(events.stream().map(OutboxMessage::from).toList());
+            } catch (Exception e) {
+                log.warn("Failed to relay {} outbox events starting at id {}", events.size(), events.get(0).getId(), e);
+                events.forEach(event -> scheduleRetry(event, now, e));
+                increment(failedCounter, events.size());
+                return 0;
+            } finally {
+                if (batchTimer != null) {
+                    batchTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+                }
+            }
+            Instant publishedAt = clock.instant();
+            for (OutboxEvent event : events) {
+                event.setPublishedAt(publishedAt);
+                if (deliveryLagTimer != null) {
+                    deliveryLagTimer.record(Duration.between(event.getCreatedAt(), publishedAt));
+                }
+            }
+            increment(publishedCounter, events.size());
+            return events.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    @Scheduled(cron = "${agent.outbox.cleanup-cron:0 30 * * * *}")
+    public void deletePublished() {
+        int deleted = transactionTemplate.execute(
+                status -> outboxEventRepository.deleteAllPublishedBefore(clock.instant().minus(retention)));
+        if (deleted > 0) {
+            log.info("Deleted {} published outbox events", deleted);
+        }
+    }
+
+    private void scheduleRetry(OutboxEvent event, Instant now, Exception e) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(now.plus(backoff(attempts)));
+        String error = String.valueOf(e);
+        event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    }
+
+    Duration backoff(int attempts) {
+        // 2^attempts가 넘치지 않도록 지수를 제한합니다.
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    private double lagSeconds() {
+        Instant oldest = oldestPendingCreatedAt;
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, clock.instant()).toMillis() / 1000.0);
+    }
+
+    private static void increment(Counter counter, int amount) {
+        if (counter != null) {
+            counter.increment(amount);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".lag", this, OutboxRelay::lagSeconds)
+                .description("가장 오래된 미전달 outbox 이벤트가 기다린 시간")
+                .baseUnit("seconds")
+                .register(registry);
+        this.publishedCounter = Counter.builder(METRIC_PREFIX + ".published")
+                .description("전달한 outbox 이벤트 수")
+                .register(registry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+                .description("전달에 실패해 재시도를 미룬 outbox 이벤트 수")
+                .register(registry);
+        this.batchTimer = Timer.builder(METRIC_PREFIX + ".batch")
+                .description("sink에 batch 하나를 전달하는 데 걸린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.deliveryLagTimer = Timer.builder(METRIC_PREFIX + ".delivery.lag")
+                .description("outbox 기록부터 전달까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
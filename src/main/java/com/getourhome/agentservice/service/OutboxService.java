@@ -0,0 +1,62 @@
+package com.getourhome.agentservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getourhome.agentservice.entity.OutboxEvent;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 다른 서비스로 보낼 이벤트를 outbox 테이블에 기록합니다.
+ * 상태 변경과 같은 트랜잭션에서만 호출되어야 하며, 실제 전달은 {@link OutboxRelay}가 진행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrationDecided(Collection<UUID> agentIds, RegistrationStatus status, String rejectReason) {
+        String eventType = status == RegistrationStatus.ACCEPTED
+                ? OutboxEvent.REGISTRATION_ACCEPTED
+                : OutboxEvent.REGISTRATION_REJECTED;
+        Instant now = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>(agentIds.size());
+        for (UUID agentId : agentIds) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("agent_id", agentId);
+            payload.put("registration_status", status);
+            payload.put("reject_reason", rejectReason);
+            payload.put("decided_at", now);
+            events.add(OutboxEvent.builder()
+                    .aggregateId(agentId)
+                    .eventType(eventType)
+                    .payload(toJson(payload))
+                    .createdAt(now)
+                    .nextAttemptAt(now)
+                    .build());
+        }
+        outboxEventRepository.saveAll(events);
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload를 직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.getourhome.agentservice.service;
+
+import java.util.List;
+
+/**
+ * outbox relay가 이벤트를 내보내는 대상입니다. 예외 없이 반환하면 전달된 것으로 보고 published 처리합니다.
+ * {@code agent.outbox.sink}로 구현을 선택하며, 메시지 브로커 구현은 이 인터페이스를 구현한 빈으로 추가합니다.
+ */
+public interface OutboxSink {
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
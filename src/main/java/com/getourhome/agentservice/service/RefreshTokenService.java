@@ -0,0 +1,110 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.entity.RefreshToken;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.repository.AgentAccount;
+import com.getourhome.agentservice.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 불투명(opaque) refresh token을 발급하고 갱신합니다.
+ * 토큰은 SHA-256 해시로만 저장하므로 갱신은 인덱스 조회 한 번과 해시 계산으로 끝나고 BCrypt를 사용하지 않습니다.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AgentCache agentCache;
+    private final Duration validity;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public record Renewal(UUID agentId, String agencyName, String refreshToken) {
+    }
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            AgentCache agentCache,
+            @Value("${security.jwt.refresh-token.expire-length:P14D}") Duration validity
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.agentCache = agentCache;
+        this.validity = validity;
+    }
+
+    public String issue(UUID agentId) {
+        byte[] random = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(random);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(refreshToken))
+                .agentId(agentId)
+                .expiresAt(Instant.now().plus(validity))
+                .build());
+        return refreshToken;
+    }
+
+    /**
+     * refresh token을 한 번 사용하고 새 refresh token으로 교체합니다.
+     * 토큰이 없거나 만료되었거나 이미 사용되었거나, 가입 승인 상태가 아닌 경우 빈 값을 반환합니다.
+     */
+    @Transactional
+    public Optional<Renewal> renew(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return Optional.empty();
+        }
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hash(refreshToken)).orElse(null);
+        // 동시에 같은 토큰으로 갱신하면 먼저 삭제한 요청만 성공합니다.
+        if (stored == null || refreshTokenRepository.consumeById(stored.getId()) == 0) {
+            return Optional.empty();
+        }
+        if (stored.getExpiresAt().isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+
+        AgentAccount account = agentCache.findById(stored.getAgentId()).orElse(null);
+        if (account == null || account.registrationStatus() != RegistrationStatus.ACCEPTED) {
+            return Optional.empty();
+        }
+        return Optional.of(new Renewal(account.id(), account.agencyName(), issue(account.id())));
+    }
+
+    @Transactional
+    public int revokeAll(UUID agentId) {
+        return refreshTokenRepository.deleteAllByAgentId(agentId);
+    }
+
+    @Transactional
+    @Scheduled(cron = "${security.jwt.refresh-token.cleanup-cron:0 0 * * * *}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteAllExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(refreshToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
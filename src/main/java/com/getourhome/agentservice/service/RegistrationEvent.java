@@ -0,0 +1,11 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.entity.RegistrationStatus;
+
+import java.util.UUID;
+
+/**
+ * 가입 요청이 생성되거나 상태가 바뀌었을 때 발행하는 이벤트입니다. 트랜잭션이 커밋된 뒤에 전파됩니다.
+ */
+public record RegistrationEvent(UUID agentId, RegistrationStatus registrationStatus) {
+}
@@ -0,0 +1,288 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.dto.response.RegistrationEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가입 요청 이벤트를 관리자 대시보드의 SSE 연결로 전파합니다.
+ * <p>
+ * 연결은 서블릿 비동기 요청으로 유지되므로 대기 중인 연결은 스레드를 점유하지 않습니다.
+ * 구독자마다 크기가 제한된 버퍼를 두고, 버퍼가 넘치는 느린 구독자는 밀린 이벤트를 버린 뒤
+ * {@value #RESYNC_EVENT_NAME} 이벤트로 목록을 다시 조회하도록 알립니다.
+ * 최근 이벤트는 replay 버퍼에 보관해 재연결시 {@code Last-Event-ID} 이후 이벤트부터 이어서 보냅니다.
+ * 이벤트 id는 {@code <인스턴스 시작 시각>-<순번>} 형식이라 재시작되었거나 다른 인스턴스에 연결된 경우도 resync로 처리합니다.
+ */
+@Service
+@Slf4j
+public class RegistrationEventBroadcaster implements MeterBinder {
+    static final String EVENT_NAME = "registration";
+    static final String RESYNC_EVENT_NAME = "resync";
+    private static final String METRIC_PREFIX = "registration.events";
+
+    private final String epoch = Long.toString(System.currentTimeMillis());
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final Executor deliveryExecutor;
+    private final ExecutorService ownedExecutor;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // 순번 부여, replay 버퍼 추가, 구독자 버퍼 적재를 한 번에 진행해 구독 시점의 replay와 순서가 섞이지 않게 합니다.
+    private final Object lock = new Object();
+    private final Entry[] replay;
+    private long sequence;
+
+    private volatile Counter publishedCounter;
+    private volatile Counter resyncCounter;
+
+    @Autowired
+    public RegistrationEventBroadcaster(
+            @Value("${agent.registration-events.timeout:PT30M}") Duration timeout,
+            @Value("${agent.registration-events.buffer-size:256}") int bufferSize,
+            @Value("${agent.registration-events.replay-size:1024}") int replaySize,
+            @Value("${agent.registration-events.delivery-threads:4}") int deliveryThreads
+    ) {
+        this(timeout, bufferSize, replaySize,
+                Executors.newFixedThreadPool(deliveryThreads, new CustomizableThreadFactory("registration-events-")));
+    }
+
+    RegistrationEventBroadcaster(Duration timeout, int bufferSize, int replaySize, Executor deliveryExecutor) {
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferSize = bufferSize;
+        this.replay = new Entry[replaySize];
+        this.deliveryExecutor = deliveryExecutor;
+        this.ownedExecutor = deliveryExecutor instanceof ExecutorService executorService ? executorService : null;
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        synchronized (lock) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<Entry> missed = missedSince(lastEventId);
+                if (missed == null || missed.size() > bufferSize) {
+                    subscriber.resync = true;
+                } else {
+                    missed.forEach(subscriber.buffer::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationEvent(RegistrationEvent event) {
+        publish(RegistrationEventDto.builder()
+                .agentId(event.agentId())
+                .registrationStatus(event.registrationStatus())
+                .occurredAt(Instant.now())
+                .build());
+    }
+
+    void publish(RegistrationEventDto payload) {
+        synchronized (lock) {
+            Entry entry = new Entry(++sequence, payload);
+            replay[(int) (entry.sequence % replay.length)] = entry;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(entry);
+            }
+        }
+        increment(publishedCounter);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.schedule();
+        }
+    }
+
+    /**
+     * 프록시와 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석을 보냅니다. 끊어진 연결도 이때 정리됩니다.
+     */
+    @Scheduled(
+            initialDelayString = "${agent.registration-events.heartbeat-interval:PT30S}",
+            fixedDelayString = "${agent.registration-events.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat.set(true);
+            subscriber.schedule();
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * lastEventId 이후 이벤트를 반환합니다. 이 인스턴스의 id가 아니거나 replay 버퍼에서 이미 밀려났으면 null입니다.
+     */
+    private List<Entry> missedSince(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return null;
+        }
+        long lastSequence;
+        try {
+            lastSequence = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (lastSequence > sequence || sequence - lastSequence > replay.length) {
+            return null;
+        }
+        List<Entry> missed = new ArrayList<>((int) (sequence - lastSequence));
+        for (long next = lastSequence + 1; next <= sequence; next++) {
+            missed.add(replay[(int) (next % replay.length)]);
+        }
+        return missed;
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".subscribers", subscribers, Set::size)
+                .description("가입 요청 이벤트 SSE 구독자 수")
+                .register(registry);
+        this.publishedCounter = Counter.builder(METRIC_PREFIX + ".published")
+                .description("발행한 가입 요청 이벤트 수")
+                .register(registry);
+        this.resyncCounter = Counter.builder(METRIC_PREFIX + ".resync")
+                .description("버퍼 초과 또는 replay 범위를 벗어나 resync를 보낸 횟수")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    private record Entry(long sequence, RegistrationEventDto payload) {
+    }
+
+    /**
+     * SseEmitter는 동시에 send할 수 없으므로 구독자마다 한 번에 하나의 전송 작업만 실행되도록 합니다.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Entry> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean heartbeat = new AtomicBoolean();
+        private volatile boolean resync;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Entry entry) {
+            if (!buffer.offer(entry)) {
+                // 밀린 이벤트는 버리고 목록을 다시 조회하게 합니다.
+                buffer.clear();
+                resync = true;
+            }
+        }
+
+        private void schedule() {
+            if (closed || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                deliveryExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed) {
+                    if (resync) {
+                        resync = false;
+                        sendResync();
+                        continue;
+                    }
+                    Entry entry = buffer.poll();
+                    if (entry != null) {
+                        emitter.send(SseEmitter.event()
+                                .id(eventId(entry.sequence))
+                                .name(EVENT_NAME)
+                                .data(entry.payload, MediaType.APPLICATION_JSON));
+                    } else if (heartbeat.getAndSet(false)) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    } else {
+                        break;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Closing registration event subscriber: {}", e.getMessage());
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                scheduled.set(false);
+            }
+            if (!closed && (resync || !buffer.isEmpty() || heartbeat.get())) {
+                schedule();
+            }
+        }
+
+        private void sendResync() throws IOException {
+            long latest;
+            synchronized (lock) {
+                latest = sequence;
+                // resync 이후 목록을 다시 조회하므로 그 전까지 쌓인 이벤트는 보낼 필요가 없습니다.
+                buffer.clear();
+            }
+            increment(resyncCounter);
+            emitter.send(SseEmitter.event().id(eventId(latest)).name(RESYNC_EVENT_NAME).data(""));
+        }
+
+        private void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+}
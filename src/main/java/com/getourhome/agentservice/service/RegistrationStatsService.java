@@ -0,0 +1,298 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.dto.response.DailyRegistrationStatsDto;
+import com.getourhome.agentservice.dto.response.RegistrationStatsResponseDto;
+import com.getourhome.agentservice.entity.RegistrationStat;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.repository.RegistrationStatRepository;
+import com.getourhome.agentservice.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상태별 공인중개사 수와 일별 가입/승인/거부 건수를 {@code Users} 테이블을 세지 않고 제공합니다.
+ * <p>
+ * 가입과 상태 전환이 커밋되면 키별 {@link LongAdder}에 증감분을 누적하고, 주기적으로 요약 테이블
+ * {@code registration_stats}에 더한 뒤 테이블 값을 다시 읽어 둡니다. 조회는 마지막으로 읽은 테이블 값에
+ * 아직 반영하지 않은 증감분을 더해 메모리에서만 계산합니다.
+ * 반영 전에 종료되어 잃어버린 증감분이나 다른 경로로 바뀐 행은 주기적인 보정 작업이 {@code Users}를 다시 세어 맞춥니다.
+ */
+@Service
+@Slf4j
+public class RegistrationStatsService implements MeterBinder {
+    private static final String STATUS = "status.";
+    private static final String REGISTERED = "registered.";
+    private static final String ACCEPTED = "accepted.";
+    private static final String REJECTED = "rejected.";
+
+    private final UserRepository userRepository;
+    private final RegistrationStatRepository registrationStatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ZoneId zone;
+    private final int retentionDays;
+    private final int reconcileDays;
+    private final Clock clock;
+
+    // 요약 테이블에 아직 더하지 않은 증감분입니다.
+    private final ConcurrentHashMap<String, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+    // 마지막으로 읽은 요약 테이블 값입니다.
+    private volatile Map<String, Long> snapshot = Map.of();
+    // 요약 테이블이 비어 있어 다음 보정에서 보관 기간 전체를 세어야 하는지 여부입니다.
+    private volatile boolean seedPending;
+
+    @Autowired
+    public RegistrationStatsService(
+            UserRepository userRepository,
+            RegistrationStatRepository registrationStatRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${agent.stats.zone:Asia/Seoul}") ZoneId zone,
+            @Value("${agent.stats.retention-days:90}") int retentionDays,
+            @Value("${agent.stats.reconcile-days:2}") int reconcileDays
+    ) {
+        this(userRepository, registrationStatRepository, transactionManager,
+                retentionDays, reconcileDays, Clock.system(zone));
+    }
+
+    RegistrationStatsService(UserRepository userRepository, RegistrationStatRepository registrationStatRepository,
+                             PlatformTransactionManager transactionManager, int retentionDays, int reconcileDays,
+                             Clock clock) {
+        this.userRepository = userRepository;
+        this.registrationStatRepository = registrationStatRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.zone = clock.getZone();
+        this.retentionDays = retentionDays;
+        this.reconcileDays = reconcileDays;
+        this.clock = clock;
+    }
+
+    /**
+     * 요약 테이블 값을 읽어 둡니다. 테이블이 비어 있으면 시작을 늦추지 않도록 직접 세지 않고,
+     * 첫 보정 작업이 보관 기간 전체를 세어 채웁니다.
+     */
+    @PostConstruct
+    public void load() {
+        reloadSnapshot();
+        seedPending = snapshot.isEmpty();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationEvent(RegistrationEvent event) {
+        LocalDate today = today();
+        RegistrationStatus status = event.registrationStatus();
+        if (status == RegistrationStatus.PENDING) {
+            add(STATUS + RegistrationStatus.PENDING, 1);
+            add(REGISTERED + today, 1);
+            return;
+        }
+        // 상태 전환은 승인 대기에서만 일어납니다.
+        add(STATUS + RegistrationStatus.PENDING, -1);
+        add(STATUS + status, 1);
+        add((status == RegistrationStatus.ACCEPTED ? ACCEPTED : REJECTED) + today, 1);
+    }
+
+    /**
+     * 일괄 등록으로 바로 저장된 공인중개사를 반영합니다. 승인/거부 처리를 거치지 않으므로 일별 승인/거부 건수에는 포함하지 않습니다.
+     */
+    public void recordImported(int count, RegistrationStatus status) {
+        if (count <= 0) {
+            return;
+        }
+        add(STATUS + status, count);
+        add(REGISTERED + today(), count);
+    }
+
+    public RegistrationStatsResponseDto getStats(int days) {
+        LocalDate today = today();
+        List<DailyRegistrationStatsDto> daily = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            LocalDate date = today.minusDays(i);
+            daily.add(DailyRegistrationStatsDto.builder()
+                    .date(date)
+                    .registered(value(REGISTERED + date))
+                    .accepted(value(ACCEPTED + date))
+                    .rejected(value(REJECTED + date))
+                    .build());
+        }
+        return RegistrationStatsResponseDto.builder()
+                .pending(value(STATUS + RegistrationStatus.PENDING))
+                .accepted(value(STATUS + RegistrationStatus.ACCEPTED))
+                .rejected(value(STATUS + RegistrationStatus.REJECTED))
+                .daily(daily)
+                .build();
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    @Scheduled(
+            initialDelayString = "${agent.stats.flush-interval:PT5S}",
+            fixedDelayString = "${agent.stats.flush-interval:PT5S}")
+    public void flush() {
+        Map<String, Long> deltas = drainPendingDeltas();
+        if (!deltas.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Instant now = clock.instant();
+                    // 키 순서를 고정해 여러 인스턴스가 동시에 반영할 때 교착을 피합니다.
+                    deltas.forEach((key, delta) -> {
+                        if (registrationStatRepository.addToValue(key, delta, now) == 0) {
+                            registrationStatRepository.save(new RegistrationStat(key, delta, now));
+                        }
+                    });
+                });
+            } catch (RuntimeException e) {
+                // 다른 인스턴스와 같은 키를 동시에 insert한 경우 등은 다음 주기에 다시 반영합니다.
+                log.warn("Failed to flush registration stats, retrying next run: {}", e.getMessage());
+                deltas.forEach(this::add);
+                return;
+            }
+        }
+        reloadSnapshot();
+    }
+
+    @Scheduled(
+            initialDelayString = "${agent.stats.reconcile-initial-delay:PT1M}",
+            fixedDelayString = "${agent.stats.reconcile-interval:PT1H}")
+    public void reconcile() {
+        reconcile(seedPending ? retentionDays : reconcileDays);
+    }
+
+    /**
+     * 상태별 전체 건수와 최근 days일의 일별 건수를 {@code Users}에서 다시 세어 요약 테이블을 덮어씁니다.
+     * 각 집계는 (registration_status, created_at), (registration_status, decided_at) 인덱스 범위 조회입니다.
+     * 집계 중 커밋된 변경은 한 번 더 더해질 수 있으며 다음 보정에서 맞춰집니다.
+     * 여러 인스턴스가 빈 요약 테이블을 동시에 채우다 같은 키를 insert하면 다른 인스턴스가 채운 값을 읽고 다음 보정에 맡깁니다.
+     */
+    void reconcile(int days) {
+        flush();
+        LocalDate today = today();
+        Map<String, Long> actual = new TreeMap<>();
+        for (RegistrationStatus status : RegistrationStatus.values()) {
+            actual.put(STATUS + status, userRepository.countByRegistrationStatus(status));
+        }
+        for (int i = 0; i < days; i++) {
+            LocalDate date = today.minusDays(i);
+            Instant from = date.atStartOfDay(zone).toInstant();
+            Instant to = date.plusDays(1).atStartOfDay(zone).toInstant();
+            long registered = 0;
+            for (RegistrationStatus status : RegistrationStatus.values()) {
+                registered += userRepository.countCreatedBetween(status, from, to);
+            }
+            actual.put(REGISTERED + date, registered);
+            actual.put(ACCEPTED + date, userRepository.countDecidedBetween(RegistrationStatus.ACCEPTED, from, to));
+            actual.put(REJECTED + date, userRepository.countDecidedBetween(RegistrationStatus.REJECTED, from, to));
+        }
+
+        Map<String, Long> current = snapshot;
+        long drifted = actual.entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(current.getOrDefault(entry.getKey(), 0L)))
+                .count();
+        LocalDate oldest = today.minusDays(retentionDays - 1L);
+        List<String> expired = current.keySet().stream()
+                .filter(key -> isDailyKeyBefore(key, oldest))
+                .toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Instant now = clock.instant();
+                actual.forEach((key, value) -> {
+                    if (registrationStatRepository.setValue(key, value, now) == 0) {
+                        registrationStatRepository.save(new RegistrationStat(key, value, now));
+                    }
+                });
+                if (!expired.isEmpty()) {
+                    registrationStatRepository.deleteAllByKeys(expired);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Registration stats were written concurrently by another instance, retrying next run: {}",
+                    e.getMessage());
+            reloadSnapshot();
+            seedPending = snapshot.isEmpty();
+            return;
+        }
+        if (drifted > 0) {
+            log.info("Reconciled {} drifted registration stats", drifted);
+        }
+        seedPending = false;
+        reloadSnapshot();
+    }
+
+    private void reloadSnapshot() {
+        Map<String, Long> values = new HashMap<>();
+        for (RegistrationStat stat : registrationStatRepository.findAll()) {
+            values.put(stat.getStatKey(), stat.getValue());
+        }
+        snapshot = Map.copyOf(values);
+    }
+
+    private Map<String, Long> drainPendingDeltas() {
+        Map<String, Long> deltas = new TreeMap<>();
+        pendingDeltas.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(key, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private void add(String key, long delta) {
+        pendingDeltas.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    private long value(String key) {
+        LongAdder pending = pendingDeltas.get(key);
+        long value = snapshot.getOrDefault(key, 0L) + (pending == null ? 0 : pending.sum());
+        return Math.max(0, value);
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    private static boolean isDailyKeyBefore(String key, LocalDate oldest) {
+        if (key.startsWith(STATUS)) {
+            return false;
+        }
+        try {
+            return LocalDate.parse(key.substring(key.indexOf('.') + 1)).isBefore(oldest);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RegistrationStatus status : RegistrationStatus.values()) {
+            Gauge.builder("registration.stats.agents", this, stats -> stats.value(STATUS + status))
+                    .description("가입 요청 상태별 공인중개사 수")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.entity.RevokedToken;
+import com.getourhome.agentservice.repository.RevokedTokenRepository;
+import com.getourhome.agentservice.util.BloomFilter;
+import com.getourhome.agentservice.util.JwtClaims;
+import com.getourhome.agentservice.util.TokenRevocationCheck;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DB의 토큰 폐기 목록을 메모리에 복제해 두고 검증 경로에서 DB 조회 없이 폐기 여부를 판단합니다.
+ * <p>
+ * jti 폐기는 Bloom filter로 대부분의 정상 토큰을 바로 통과시키고, 양성일 때만 정확한 Set으로 확인합니다.
+ * 다른 노드에서 추가된 폐기 내역은 {@code revoked_at} 기준으로 주기적으로 증분 조회합니다.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService implements TokenRevocationCheck {
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    // 다른 노드의 커밋 지연과 시계 오차를 고려해 직전 조회 구간과 겹쳐서 조회합니다.
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedRevocations;
+    private final Set<String> revokedTokenIds = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<UUID, Instant> agentCutoffs = new ConcurrentHashMap<>();
+    private volatile BloomFilter tokenIdFilter;
+    private volatile Instant lastRefreshedAt = Instant.EPOCH;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${security.jwt.revocation.expected-revocations:100000}") long expectedRevocations
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.tokenIdFilter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_PROBABILITY);
+    }
+
+    @PostConstruct
+    public void loadAll() {
+        Instant startedAt = Instant.now();
+        revokedTokenRepository.findAll().forEach(this::apply);
+        lastRefreshedAt = startedAt;
+        log.info("Loaded {} revoked token ids and {} agent revocations", revokedTokenIds.size(), agentCutoffs.size());
+    }
+
+    @Scheduled(
+            initialDelayString = "${security.jwt.revocation.refresh-interval:PT10S}",
+            fixedDelayString = "${security.jwt.revocation.refresh-interval:PT10S}")
+    public void refresh() {
+        Instant startedAt = Instant.now();
+        revokedTokenRepository.findByRevokedAtGreaterThanEqual(lastRefreshedAt.minus(REFRESH_OVERLAP))
+                .forEach(this::apply);
+        lastRefreshedAt = startedAt;
+        if (tokenIdFilter.isSaturated()) {
+            rebuildFilter();
+        }
+    }
+
+    @Override
+    public boolean isRevoked(JwtClaims claims) {
+        if (!agentCutoffs.isEmpty()) {
+            Instant cutoff = agentCutoffs.get(claims.id());
+            // iat가 없는 기존 토큰은 발급 시각을 알 수 없으므로 폐기 대상으로 봅니다.
+            if (cutoff != null && (claims.issuedAt() == null || !claims.issuedAt().isAfter(cutoff))) {
+                return true;
+            }
+        }
+        String tokenId = claims.tokenId();
+        return tokenId != null
+                && tokenIdFilter.mightContain(tokenId)
+                && revokedTokenIds.contains(tokenId);
+    }
+
+    public RevokedToken revokeToken(String tokenId, String reason) {
+        RevokedToken revokedToken = revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .reason(reason)
+                .build());
+        apply(revokedToken);
+        return revokedToken;
+    }
+
+    public RevokedToken revokeAgentTokens(UUID agentId, Instant issuedBefore, String reason) {
+        RevokedToken revokedToken = revokedTokenRepository.save(RevokedToken.builder()
+                .agentId(agentId)
+                .issuedBefore(issuedBefore == null ? Instant.now() : issuedBefore)
+                .reason(reason)
+                .build());
+        apply(revokedToken);
+        return revokedToken;
+    }
+
+    private synchronized void apply(RevokedToken revokedToken) {
+        if (revokedToken.getTokenId() != null && revokedTokenIds.add(revokedToken.getTokenId())) {
+            tokenIdFilter.put(revokedToken.getTokenId());
+        }
+        if (revokedToken.getAgentId() != null && revokedToken.getIssuedBefore() != null) {
+            agentCutoffs.merge(revokedToken.getAgentId(), revokedToken.getIssuedBefore(),
+                    (current, added) -> current.isAfter(added) ? current : added);
+        }
+    }
+
+    private synchronized void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(
+                Math.max(expectedRevocations, revokedTokenIds.size() * 2L), FALSE_POSITIVE_PROBABILITY);
+        revokedTokenIds.forEach(rebuilt::put);
+        tokenIdFilter = rebuilt;
+        log.info("Rebuilt revoked token filter for {} expected revocations", rebuilt.getExpectedInsertions());
+    }
+}
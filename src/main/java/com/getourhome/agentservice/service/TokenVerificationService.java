@@ -0,0 +1,75 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.dto.response.TokenVerificationResultDto;
+import com.getourhome.agentservice.util.JwtClaims;
+import com.getourhome.agentservice.util.JwtTokenProvider;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Service
+public class TokenVerificationService {
+    // 이 크기 이상의 요청만 청크 단위로 나누어 병렬 검증합니다.
+    static final int PARALLEL_THRESHOLD = 64;
+    static final int CHUNK_SIZE = 32;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final Executor tokenVerificationExecutor;
+
+    public TokenVerificationService(
+            JwtTokenProvider jwtTokenProvider,
+            TokenRevocationService tokenRevocationService,
+            @Qualifier("tokenVerificationExecutor") Executor tokenVerificationExecutor
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenVerificationExecutor = tokenVerificationExecutor;
+    }
+
+    public List<TokenVerificationResultDto> verifyAll(List<String> tokens) {
+        if (tokens.size() < PARALLEL_THRESHOLD) {
+            return tokens.stream().map(this::verify).toList();
+        }
+
+        List<CompletableFuture<List<TokenVerificationResultDto>>> chunks = new ArrayList<>();
+        for (int from = 0; from < tokens.size(); from += CHUNK_SIZE) {
+            List<String> chunk = tokens.subList(from, Math.min(from + CHUNK_SIZE, tokens.size()));
+            chunks.add(CompletableFuture.supplyAsync(
+                    () -> chunk.stream().map(this::verify).toList(),
+                    tokenVerificationExecutor));
+        }
+
+        List<TokenVerificationResultDto> results = new ArrayList<>(tokens.size());
+        for (CompletableFuture<List<TokenVerificationResultDto>> chunk : chunks) {
+            results.addAll(chunk.join());
+        }
+        return results;
+    }
+
+    public TokenVerificationResultDto verify(String token) {
+        try {
+            JwtClaims claims = jwtTokenProvider.verify(token);
+            if (tokenRevocationService.isRevoked(claims)) {
+                return TokenVerificationResultDto.invalid("REVOKED");
+            }
+            return TokenVerificationResultDto.valid(claims);
+        } catch (ExpiredJwtException e) {
+            return TokenVerificationResultDto.invalid("EXPIRED");
+        } catch (SignatureException e) {
+            return TokenVerificationResultDto.invalid("INVALID_SIGNATURE");
+        } catch (MalformedJwtException | IllegalArgumentException e) {
+            return TokenVerificationResultDto.invalid("MALFORMED");
+        } catch (JwtException e) {
+            return TokenVerificationResultDto.invalid("INVALID");
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.getourhome.agentservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getourhome.agentservice.dto.request.UserRegisterDto;
+import com.getourhome.agentservice.dto.response.ImportRowResultDto;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.exception.PasswordHashingRejectedException;
+import com.getourhome.agentservice.exception.PasswordHashingTimeoutException;
+import com.getourhome.agentservice.repository.UserIdentifiers;
+import com.getourhome.agentservice.repository.UserRepository;
+import com.getourhome.agentservice.util.CsvReader;
+import com.getourhome.agentservice.util.PasswordHashingExecutor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CSV 또는 NDJSON으로 업로드한 공인중개사를 일괄 등록합니다.
+ * <p>
+ * 업로드를 한 행씩 읽어 batch-size 단위로 처리하므로 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+ * 한 묶음마다 검증, 한 번의 중복 조회, 해싱 풀에서의 병렬 해싱, JDBC batch insert 순으로 진행하고
+ * 행별 결과를 {@link ResultListener}로 바로 내보냅니다.
+ */
+@Service
+@Slf4j
+public class UserImportService {
+    public static final List<String> COLUMNS = List.of(
+            "user_id", "username", "registration_number", "agency_name", "phone_number", "password", "email");
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    @FunctionalInterface
+    public interface ResultListener {
+        void onResults(List<ImportRowResultDto> results) throws IOException;
+    }
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final IdentifierAvailabilityService identifierAvailabilityService;
+    private final RegistrationStatsService registrationStatsService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public UserImportService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            PasswordHashingExecutor passwordHashingExecutor,
+            IdentifierAvailabilityService identifierAvailabilityService,
+            RegistrationStatsService registrationStatsService,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            @Value("${agent.import.batch-size:500}") int batchSize
+    ) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.identifierAvailabilityService = identifierAvailabilityService;
+        this.registrationStatsService = registrationStatsService;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public void importUsers(InputStream inputStream, Format format, RegistrationStatus registrationStatus,
+                            ResultListener listener) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        RowReader rowReader = format == Format.CSV ? new CsvRowReader(reader) : new NdjsonRowReader(reader);
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+        int rowNumber = 0;
+        int created = 0;
+        ImportRow row;
+        while ((row = rowReader.next(++rowNumber)) != null) {
+            chunk.add(row);
+            if (chunk.size() == batchSize) {
+                created += processChunk(chunk, registrationStatus, listener);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += processChunk(chunk, registrationStatus, listener);
+        }
+        log.info("Imported {} of {} agent rows", created, rowNumber - 1);
+    }
+
+    private int processChunk(List<ImportRow> chunk, RegistrationStatus registrationStatus,
+                             ResultListener listener) throws IOException {
+        validate(chunk);
+        rejectDuplicates(chunk);
+        hashPasswords(chunk);
+        int created = insert(chunk, registrationStatus);
+        List<ImportRowResultDto> results = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            results.add(row.toResult());
+        }
+        listener.onResults(results);
+        return created;
+    }
+
+    private void validate(List<ImportRow> chunk) {
+        for (ImportRow row : chunk) {
+            if (row.status != null) {
+                continue;
+            }
+            Set<ConstraintViolation<UserRegisterDto>> violations = validator.validate(row.dto);
+            if (!violations.isEmpty()) {
+                row.fail(ImportRowResultDto.Status.INVALID, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .toList());
+            }
+        }
+    }
+
+    /**
+     * 파일 안에서 앞선 행과 겹치거나 이미 저장된 사용자와 겹치는 행을 한 번의 조회로 걸러냅니다.
+     */
+    private void rejectDuplicates(List<ImportRow> chunk) {
+        Set<String> userIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> registrationNumbers = new HashSet<>();
+        for (ImportRow row : chunk) {
+            if (row.status != null) {
+                continue;
+            }
+            UserRegisterDto dto = row.dto;
+            if (userIds.contains(dto.getUserId())) {
+                row.fail(ImportRowResultDto.Status.DUPLICATE_USER_ID, List.of("파일 안에서 중복된 user_id입니다."));
+            } else if (emails.contains(dto.getEmail())) {
+                row.fail(ImportRowResultDto.Status.DUPLICATE_EMAIL, List.of("파일 안에서 중복된 email입니다."));
+            } else if (registrationNumbers.contains(dto.getRegistrationNumber())) {
+                row.fail(ImportRowResultDto.Status.DUPLICATE_REGISTRATION_NUMBER,
+                        List.of("파일 안에서 중복된 registration_number입니다."));
+            } else {
+                userIds.add(dto.getUserId());
+                emails.add(dto.getEmail());
+                registrationNumbers.add(dto.getRegistrationNumber());
+            }
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<UserIdentifiers> existing = userRepository.findIdentifierConflictsIn(userIds, emails, registrationNumbers);
+        if (existing.isEmpty()) {
+            return;
+        }
+        for (ImportRow row : chunk) {
+            if (row.status == null) {
+                markConflict(row, AuthService.conflictOf(row.dto, existing));
+            }
+        }
+    }
+
+    /**
+     * 해싱 풀에 풀 크기의 두 배까지 제출해 두고 먼저 제출한 것부터 기다립니다.
+     * 대기열이 다른 요청으로 가득 차 있으면 진행 중인 해싱이 끝나기를 기다렸다가 다시 제출합니다.
+     */
+    private void hashPasswords(List<ImportRow> chunk) {
+        int window = Math.max(1, passwordHashingExecutor.getPoolSize() * 2);
+        Deque<ImportRow> inFlight = new ArrayDeque<>(window);
+        for (ImportRow row : chunk) {
+            if (row.status != null) {
+                continue;
+            }
+            while (true) {
+                if (inFlight.size() >= window) {
+                    awaitHash(inFlight.poll());
+                }
+                try {
+                    String rawPassword = row.dto.getPassword();
+                    row.encodedPassword = passwordHashingExecutor.submit(() -> passwordEncoder.encode(rawPassword));
+                    inFlight.add(row);
+                    break;
+                } catch (PasswordHashingRejectedException e) {
+                    if (inFlight.isEmpty()) {
+                        row.fail(ImportRowResultDto.Status.FAILED, List.of(e.getMessage()));
+                        break;
+                    }
+                    awaitHash(inFlight.poll());
+                }
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            awaitHash(inFlight.poll());
+        }
+    }
+
+    private void awaitHash(ImportRow row) {
+        try {
+            row.user = row.dto.toEntity(row.encodedPassword.await());
+        } catch (PasswordHashingTimeoutException e) {
+            row.fail(ImportRowResultDto.Status.FAILED, List.of(e.getMessage()));
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 batch insert합니다. 다른 요청과의 경합으로 unique 제약을 위반하면
+     * 묶음 전체가 롤백되므로 행 단위로 다시 저장해 위반한 행만 중복으로 표시합니다.
+     */
+    private int insert(List<ImportRow> chunk, RegistrationStatus registrationStatus) {
+        List<ImportRow> insertable = chunk.stream().filter(row -> row.status == null).toList();
+        if (insertable.isEmpty()) {
+            return 0;
+        }
+        for (ImportRow row : insertable) {
+            row.user.setRegistrationStatus(registrationStatus);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.saveAll(insertable.stream().map(row -> row.user).toList()));
+        } catch (DataIntegrityViolationException e) {
+            log.info("Batch insert of {} agents hit a unique constraint, retrying row by row", insertable.size());
+            for (ImportRow row : insertable) {
+                insertOne(row, registrationStatus);
+            }
+        }
+
+        int created = 0;
+        for (ImportRow row : insertable) {
+            if (row.status == null) {
+                row.status = ImportRowResultDto.Status.CREATED;
+                identifierAvailabilityService.register(
+                        row.dto.getUserId(), row.dto.getEmail(), row.dto.getRegistrationNumber());
+                created++;
+            }
+        }
+        registrationStatsService.recordImported(created, registrationStatus);
+        return created;
+    }
+
+    private void insertOne(ImportRow row, RegistrationStatus registrationStatus) {
+        // 롤백된 batch에서 id가 채워진 엔티티는 재사용하지 않고 새로 만듭니다.
+        User user = row.dto.toEntity(row.user.getPassword());
+        user.setRegistrationStatus(registrationStatus);
+        try {
+            row.user = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            AuthService.RegistrationResult conflict = AuthService.conflictOf(row.dto,
+                    userRepository.findIdentifierConflicts(
+                            row.dto.getUserId(), row.dto.getEmail(), row.dto.getRegistrationNumber()));
+            if (conflict == null) {
+                row.fail(ImportRowResultDto.Status.FAILED, List.of("저장에 실패했습니다."));
+            } else {
+                markConflict(row, conflict);
+            }
+        }
+    }
+
+    private static void markConflict(ImportRow row, AuthService.RegistrationResult conflict) {
+        if (conflict == null) {
+            return;
+        }
+        switch (conflict) {
+            case DUPLICATE_USER_ID -> row.fail(ImportRowResultDto.Status.DUPLICATE_USER_ID,
+                    List.of("User Id already exists"));
+            case DUPLICATE_EMAIL -> row.fail(ImportRowResultDto.Status.DUPLICATE_EMAIL,
+                    List.of("Email already exists"));
+            case DUPLICATE_REGISTRATION_NUMBER -> row.fail(ImportRowResultDto.Status.DUPLICATE_REGISTRATION_NUMBER,
+                    List.of("Registration Number already exists"));
+            default -> {
+            }
+        }
+    }
+
+    private static UserRegisterDto toDto(Map<String, String> values) {
+        return UserRegisterDto.newBuilder()
+                .userId(values.get("user_id"))
+                .username(values.get("username"))
+                .registrationNumber(values.get("registration_number"))
+                .agencyName(values.get("agency_name"))
+                .phoneNumber(values.get("phone_number"))
+                .password(values.get("password"))
+                .email(values.get("email"))
+                .build();
+    }
+
+    private static final class ImportRow {
+        private final int rowNumber;
+        private final UserRegisterDto dto;
+        private ImportRowResultDto.Status status;
+        private List<String> errors;
+        private PasswordHashingExecutor.Submission<String> encodedPassword;
+        private User user;
+
+        private ImportRow(int rowNumber, UserRegisterDto dto) {
+            this.rowNumber = rowNumber;
+            this.dto = dto;
+        }
+
+        private static ImportRow unreadable(int rowNumber, String error) {
+            ImportRow row = new ImportRow(rowNumber, null);
+            row.fail(ImportRowResultDto.Status.INVALID, List.of(error));
+            return row;
+        }
+
+        private void fail(ImportRowResultDto.Status status, List<String> errors) {
+            this.status = status;
+            this.errors = errors;
+        }
+
+        private ImportRowResultDto toResult() {
+            return ImportRowResultDto.builder()
+                    .row(rowNumber)
+                    .userId(dto == null ? null : dto.getUserId())
+                    .status(status)
+                    .id(status == ImportRowResultDto.Status.CREATED ? user.getId() : null)
+                    .errors(errors)
+                    .build();
+        }
+    }
+
+    private interface RowReader {
+        ImportRow next(int rowNumber) throws IOException;
+    }
+
+    private static final class CsvRowReader implements RowReader {
+        private final CsvReader csvReader;
+        private List<String> header;
+        private boolean finished;
+
+        private CsvRowReader(BufferedReader reader) {
+            this.csvReader = new CsvReader(reader);
+        }
+
+        @Override
+        public ImportRow next(int rowNumber) throws IOException {
+            if (finished) {
+                return null;
+            }
+            if (header == null) {
+                try {
+                    header = csvReader.readRecord();
+                } catch (CsvReader.MalformedCsvException e) {
+                    throw new IllegalArgumentException("CSV 헤더를 읽을 수 없습니다. " + e.getMessage());
+                }
+                if (header == null) {
+                    return null;
+                }
+                header = header.stream()
+                        .map(column -> column.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                        .toList();
+                if (!header.containsAll(COLUMNS)) {
+                    throw new IllegalArgumentException("CSV 헤더에는 " + String.join(",", COLUMNS) + " 컬럼이 필요합니다.");
+                }
+            }
+            List<String> record;
+            try {
+                record = csvReader.readRecord();
+            } catch (CsvReader.MalformedCsvException e) {
+                // 닫히지 않은 큰따옴표 이후로는 레코드 경계를 알 수 없으므로 이 행을 실패로 보고하고 읽기를 멈춥니다.
+                finished = true;
+                return ImportRow.unreadable(rowNumber, e.getMessage());
+            }
+            if (record == null) {
+                return null;
+            }
+            if (record.size() != header.size()) {
+                return ImportRow.unreadable(rowNumber,
+                        "컬럼 수가 헤더와 다릅니다. (" + record.size() + "/" + header.size() + ")");
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                values.put(header.get(i), record.get(i));
+            }
+            return new ImportRow(rowNumber, toDto(values));
+        }
+    }
+
+    private final class NdjsonRowReader implements RowReader {
+        private final BufferedReader reader;
+
+        private NdjsonRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRow next(int rowNumber) throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                return ImportRow.unreadable(rowNumber, "JSON 형식이 올바르지 않습니다.");
+            }
+            if (!node.isObject()) {
+                return ImportRow.unreadable(rowNumber, "각 줄은 JSON 객체여야 합니다.");
+            }
+            Map<String, String> values = new HashMap<>();
+            for (String column : COLUMNS) {
+                JsonNode value = node.get(column);
+                values.put(column, value == null || value.isNull() ? null : value.asText());
+            }
+            return new ImportRow(rowNumber, toDto(values));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.getourhome.agentservice.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 정책의 cost로 해싱하는 {@link BCryptPasswordEncoder}입니다.
+ * BCrypt 해시는 {@code $2a$<cost>$...} 형태로 cost를 담고 있으므로, {@link #upgradeEncoding(String)}이 저장된 해시의 cost를
+ * 정책과 비교해 로그인시 다시 해싱할지 정합니다.
+ * <ul>
+ *     <li>cost를 고정한 경우: 모든 인스턴스가 같은 정책이므로 cost가 다르면 올리든 내리든 고정 cost로 다시 해싱합니다.</li>
+ *     <li>측정한 경우: 인스턴스마다 cost가 다를 수 있어 측정한 cost는 새 해시에만 적용하고,
+ *     최소 cost보다 낮은 해시만 다시 해싱합니다. 서로의 해시를 번갈아 다시 해싱하지 않기 위해서입니다.</li>
+ * </ul>
+ * 기존 해시를 측정한 cost로 옮기려면 기동 로그에 남은 cost를 strength로 고정해 배포합니다.
+ */
+@Slf4j
+@Getter
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 31;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int SAMPLES = 5;
+
+    private final int strength;
+    private final int minimumStrength;
+    private final boolean pinned;
+
+    /**
+     * cost를 고정합니다. cost가 다른 해시는 높든 낮든 재해싱 대상입니다.
+     */
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+        this.minimumStrength = strength;
+        this.pinned = true;
+    }
+
+    /**
+     * 측정한 cost로 해싱하고, {@code minimumStrength}보다 낮은 해시만 재해싱 대상으로 봅니다.
+     */
+    CalibratedBCryptPasswordEncoder(int strength, int minimumStrength) {
+        super(strength);
+        this.strength = strength;
+        this.minimumStrength = Math.min(strength, minimumStrength);
+        this.pinned = false;
+    }
+
+    /**
+     * 검증 한 번이 {@code targetLatency}를 넘지 않는 가장 큰 cost를 측정해 encoder를 만듭니다.
+     * cost가 1 오를 때마다 시간이 두 배가 되므로 낮은 cost부터 올려가며 목표를 넘으면 멈춥니다.
+     * 기동 직후 JIT, CPU 제한에 따른 편차를 줄이도록 워밍업 후 여러 번 측정한 중앙값을 사용합니다.
+     * 재해싱 기준은 측정한 cost가 아니라 {@code minStrength}입니다.
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        int lower = Math.max(MIN_STRENGTH, minStrength);
+        int upper = Math.min(MAX_STRENGTH, Math.max(lower, maxStrength));
+        long targetNanos = targetLatency.toNanos();
+
+        // JIT 워밍업
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            measure(MIN_STRENGTH);
+        }
+
+        int chosen = lower;
+        long chosenNanos = 0;
+        for (int candidate = lower; candidate <= upper; candidate++) {
+            long elapsed = measure(candidate);
+            if (elapsed > targetNanos && candidate > lower) {
+                break;
+            }
+            chosen = candidate;
+            chosenNanos = elapsed;
+            if (elapsed * 2 > targetNanos) {
+                // 다음 cost는 목표를 넘을 것이므로 측정하지 않습니다.
+                break;
+            }
+        }
+        log.info("BCrypt cost {} selected ({} ms per hash, target {} ms)",
+                chosen, chosenNanos / 1_000_000, targetLatency.toMillis());
+        return new CalibratedBCryptPasswordEncoder(chosen, lower);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        int cost = Integer.parseInt(matcher.group(1));
+        return pinned ? cost != strength : cost < minimumStrength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String encoded = encoder.encode(CALIBRATION_PASSWORD);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.matches(CALIBRATION_PASSWORD, encoded);
+            samples[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
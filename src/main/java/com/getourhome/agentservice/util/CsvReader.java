@@ -0,0 +1,101 @@
+package com.getourhome.agentservice.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV를 한 레코드씩 읽습니다. 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, {@code ""}를 지원합니다.
+ * 전체 입력을 메모리에 올리지 않도록 {@link Reader}에서 바로 읽습니다.
+ */
+public class CsvReader {
+    private final Reader reader;
+    private int pushedBack = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 반환합니다. 빈 줄은 건너뛰며, 입력이 끝나면 null을 반환합니다.
+     */
+    public List<String> readRecord() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                continue;
+            }
+            pushBack(c);
+            return readFields();
+        }
+    }
+
+    private List<String> readFields() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new MalformedCsvException("CSV 필드의 큰따옴표가 닫히지 않았습니다.");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushBack(next);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushBack(next);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void pushBack(int c) {
+        pushedBack = c;
+    }
+
+    /**
+     * 입력 스트림 오류가 아니라 CSV 형식 자체가 잘못되었을 때 발생합니다. 이후 레코드 경계를 알 수 없으므로 더 읽지 않아야 합니다.
+     */
+    public static class MalformedCsvException extends IOException {
+        public MalformedCsvException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.getourhome.agentservice.util;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * UUID 식별자를 insert 시점에 {@link UuidV7}로 생성합니다. {@code @GeneratedValue} 대신 {@code @Id}와 함께 사용합니다.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedUuidV7 {
+}
@@ -0,0 +1,243 @@
+package com.getourhome.agentservice.util;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * jjwt 빌더를 거치지 않고 HMAC JWS compact 토큰을 직접 만드는 서명기입니다.
+ * <p>
+ * 헤더는 생성 시점에 한 번만 인코딩하고, 스레드마다 {@link Mac}과 버퍼를 재사용합니다.
+ * 가상 스레드는 요청마다 새로 만들어지므로 스레드별로 두면 매번 새로 초기화하게 되어, 작은 공유 풀에서 빌려 씁니다.
+ * claim 순서와 JSON 표현은 jjwt(jackson) 출력과 같아서 바이트 단위로 동일한 토큰을 만듭니다.
+ * 제어 문자나 surrogate가 포함된 값은 {@link #canEncode(String)}가 false를 반환하므로 jjwt로 서명해야 합니다.
+ */
+public class HmacTokenSigner {
+    private static final byte[] BASE64URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ID_PREFIX = ascii("{\"id\":\"");
+    private static final byte[] AGENCY_NAME_PREFIX = ascii("\",\"agencyName\":\"");
+    private static final byte[] ROLE_PREFIX = ascii("\",\"role\":\"");
+    private static final byte[] TOKEN_ID_PREFIX = ascii(",\"jti\":\"");
+    private static final byte[] ISSUED_AT_PREFIX = ascii(",\"iat\":");
+    private static final byte[] EXPIRATION_PREFIX = ascii(",\"exp\":");
+
+    private final SecretKey secretKey;
+    private final byte[] encodedHeader;
+    private final ThreadLocal<Buffers> buffers;
+    private final ArrayBlockingQueue<Buffers> virtualThreadBuffers =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    public HmacTokenSigner(SecretKey secretKey) {
+        this.secretKey = secretKey;
+        byte[] header = ascii("{\"alg\":\"" + algorithmId(secretKey.getAlgorithm()) + "\"}");
+        byte[] encoded = new byte[encodedLength(header.length) + 1];
+        int length = encode(header, header.length, encoded, 0);
+        encoded[length] = '.';
+        this.encodedHeader = encoded;
+        this.buffers = ThreadLocal.withInitial(this::newBuffers);
+    }
+
+    public static boolean canEncode(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || Character.isSurrogate(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param tokenId    jti, null이면 jti claim을 생략합니다.
+     * @param issuedAt   epoch seconds, null이면 iat claim을 생략합니다.
+     * @param expiration epoch seconds, null이면 exp claim을 생략합니다.
+     */
+    public String sign(UUID id, String agencyName, String role, String tokenId, Long issuedAt, Long expiration) {
+        if (!Thread.currentThread().isVirtual()) {
+            return sign(buffers.get(), id, agencyName, role, tokenId, issuedAt, expiration);
+        }
+        Buffers pooled = virtualThreadBuffers.poll();
+        if (pooled == null) {
+            pooled = newBuffers();
+        }
+        try {
+            return sign(pooled, id, agencyName, role, tokenId, issuedAt, expiration);
+        } finally {
+            // 풀이 가득 차 있으면 버립니다.
+            virtualThreadBuffers.offer(pooled);
+        }
+    }
+
+    private String sign(Buffers buffers, UUID id, String agencyName, String role, String tokenId,
+                        Long issuedAt, Long expiration) {
+        Buffers.Json json = buffers.json;
+        json.reset();
+        json.write(ID_PREFIX);
+        json.writeAscii(id.toString());
+        json.write(AGENCY_NAME_PREFIX);
+        json.writeEscaped(agencyName);
+        json.write(ROLE_PREFIX);
+        json.writeEscaped(role);
+        json.write((byte) '"');
+        if (tokenId != null) {
+            json.write(TOKEN_ID_PREFIX);
+            json.writeEscaped(tokenId);
+            json.write((byte) '"');
+        }
+        if (issuedAt != null) {
+            json.write(ISSUED_AT_PREFIX);
+            json.writeAscii(Long.toString(issuedAt));
+        }
+        if (expiration != null) {
+            json.write(EXPIRATION_PREFIX);
+            json.writeAscii(Long.toString(expiration));
+        }
+        json.write((byte) '}');
+
+        Mac mac = buffers.mac;
+        byte[] signature = buffers.signature;
+        int signatureLength = mac.getMacLength();
+        byte[] out = buffers.output(encodedHeader.length + encodedLength(json.length) + 1 + encodedLength(signatureLength));
+        System.arraycopy(encodedHeader, 0, out, 0, encodedHeader.length);
+        int position = encode(json.bytes, json.length, out, encodedHeader.length);
+        try {
+            mac.update(out, 0, position);
+            mac.doFinal(signature, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        out[position++] = '.';
+        position = encode(signature, signatureLength, out, position);
+        return new String(out, 0, position, StandardCharsets.ISO_8859_1);
+    }
+
+    private Buffers newBuffers() {
+        try {
+            Mac mac = Mac.getInstance(secretKey.getAlgorithm());
+            mac.init(secretKey);
+            return new Buffers(mac);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화에 실패했습니다.", e);
+        }
+    }
+
+    private static String algorithmId(String jcaName) {
+        return switch (jcaName) {
+            case "HmacSHA256" -> "HS256";
+            case "HmacSHA384" -> "HS384";
+            case "HmacSHA512" -> "HS512";
+            default -> throw new IllegalArgumentException("지원하지 않는 HMAC 알고리즘입니다: " + jcaName);
+        };
+    }
+
+    private static int encodedLength(int length) {
+        return (length / 3) * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    private static int encode(byte[] src, int length, byte[] dst, int position) {
+        int end = length - length % 3;
+        for (int i = 0; i < end; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[position++] = BASE64URL[(bits >>> 18) & 0x3f];
+            dst[position++] = BASE64URL[(bits >>> 12) & 0x3f];
+            dst[position++] = BASE64URL[(bits >>> 6) & 0x3f];
+            dst[position++] = BASE64URL[bits & 0x3f];
+        }
+        int remaining = length - end;
+        if (remaining == 1) {
+            int b0 = src[end] & 0xff;
+            dst[position++] = BASE64URL[b0 >>> 2];
+            dst[position++] = BASE64URL[(b0 << 4) & 0x3f];
+        } else if (remaining == 2) {
+            int b0 = src[end] & 0xff;
+            int b1 = src[end + 1] & 0xff;
+            dst[position++] = BASE64URL[b0 >>> 2];
+            dst[position++] = BASE64URL[((b0 << 4) | (b1 >>> 4)) & 0x3f];
+            dst[position++] = BASE64URL[(b1 << 2) & 0x3f];
+        }
+        return position;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class Buffers {
+        private final Mac mac;
+        private final byte[] signature;
+        private final Json json = new Json();
+        private byte[] output = new byte[512];
+
+        private Buffers(Mac mac) {
+            this.mac = mac;
+            this.signature = new byte[mac.getMacLength()];
+        }
+
+        private byte[] output(int capacity) {
+            if (output.length < capacity) {
+                output = new byte[Math.max(capacity, output.length * 2)];
+            }
+            return output;
+        }
+
+        private static final class Json {
+            private byte[] bytes = new byte[256];
+            private int length;
+
+            private void reset() {
+                length = 0;
+            }
+
+            private void write(byte b) {
+                ensureCapacity(1);
+                bytes[length++] = b;
+            }
+
+            private void write(byte[] src) {
+                ensureCapacity(src.length);
+                System.arraycopy(src, 0, bytes, length, src.length);
+                length += src.length;
+            }
+
+            private void writeAscii(String value) {
+                ensureCapacity(value.length());
+                for (int i = 0; i < value.length(); i++) {
+                    bytes[length++] = (byte) value.charAt(i);
+                }
+            }
+
+            // canEncode를 통과한 문자열만 들어오므로 따옴표, 역슬래시 이스케이프와 BMP UTF-8 인코딩만 처리합니다.
+            private void writeEscaped(String value) {
+                ensureCapacity(value.length() * 3);
+                for (int i = 0; i < value.length(); i++) {
+                    char c = value.charAt(i);
+                    if (c == '"' || c == '\\') {
+                        bytes[length++] = '\\';
+                        bytes[length++] = (byte) c;
+                    } else if (c < 0x80) {
+                        bytes[length++] = (byte) c;
+                    } else if (c < 0x800) {
+                        bytes[length++] = (byte) (0xc0 | (c >> 6));
+                        bytes[length++] = (byte) (0x80 | (c & 0x3f));
+                    } else {
+                        bytes[length++] = (byte) (0xe0 | (c >> 12));
+                        bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                        bytes[length++] = (byte) (0x80 | (c & 0x3f));
+                    }
+                }
+            }
+
+            private void ensureCapacity(int additional) {
+                if (length + additional > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, Math.max(length + additional, bytes.length * 2));
+                }
+            }
+        }
+    }
+}
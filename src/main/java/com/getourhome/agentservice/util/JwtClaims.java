@@ -0,0 +1,36 @@
+package com.getourhome.agentservice.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+public record JwtClaims(
+        UUID id,
+        String agencyName,
+        String role,
+        String tokenId,
+        Instant issuedAt,
+        Instant expiration
+) {
+    static JwtClaims from(Claims claims) {
+        String id = claims.get("id", String.class);
+        if (id == null) {
+            throw new MalformedJwtException("JWT에 id claim이 존재하지 않습니다.");
+        }
+        return new JwtClaims(
+                UUID.fromString(id),
+                claims.get("agencyName", String.class),
+                claims.get("role", String.class),
+                claims.getId(),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+        );
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+}
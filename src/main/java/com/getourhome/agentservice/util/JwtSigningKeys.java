@@ -0,0 +1,261 @@
+package com.getourhome.agentservice.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * ES256/EdDSA 서명 키 디렉토리를 관리합니다.
+ * <p>
+ * 디렉토리에는 {@code <kid>.pub}(X.509 PEM 공개키)와 {@code <kid>.key}(PKCS#8 PEM 개인키)를 둡니다.
+ * 공개키만 있는 kid는 검증 및 JWKS 공개에만 사용되고, 개인키가 있는 kid 중 {@code active-key-id}
+ * 또는 사전순으로 가장 큰 kid가 서명에 사용됩니다. 디렉토리는 주기적으로 다시 읽으므로
+ * 재시작 없이 키를 추가, 교체, 폐기할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class JwtSigningKeys {
+    private static final String PUBLIC_KEY_SUFFIX = ".pub";
+    private static final String PRIVATE_KEY_SUFFIX = ".key";
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    public enum Mode {
+        HMAC,
+        ASYMMETRIC
+    }
+
+    public record SigningKey(String keyId, PrivateKey privateKey) {
+    }
+
+    private record KeySet(
+            String fingerprint,
+            Map<String, PublicKey> publicKeys,
+            SigningKey signingKey,
+            Map<String, Object> jwks,
+            String jwksETag
+    ) {
+        static final KeySet EMPTY = new KeySet("", Map.of(), null, Map.of("keys", List.of()), eTag(""));
+    }
+
+    private final Mode mode;
+    private final Path keyDirectory;
+    private final String activeKeyId;
+    private volatile KeySet keySet = KeySet.EMPTY;
+
+    @Autowired
+    public JwtSigningKeys(
+            @Value("${security.jwt.signing.mode:HMAC}") Mode mode,
+            @Value("${security.jwt.signing.key-directory:}") String keyDirectory,
+            @Value("${security.jwt.signing.active-key-id:}") String activeKeyId
+    ) {
+        this.mode = mode;
+        this.keyDirectory = keyDirectory.isBlank() ? null : Path.of(keyDirectory);
+        this.activeKeyId = activeKeyId.isBlank() ? null : activeKeyId;
+        if (mode == Mode.ASYMMETRIC && this.keyDirectory == null) {
+            throw new IllegalStateException("security.jwt.signing.key-directory is required for ASYMMETRIC signing");
+        }
+        refresh();
+        if (mode == Mode.ASYMMETRIC && keySet.signingKey() == null) {
+            throw new IllegalStateException("No private signing key found in " + keyDirectory);
+        }
+    }
+
+    public static JwtSigningKeys hmacOnly() {
+        return new JwtSigningKeys(Mode.HMAC, "", "");
+    }
+
+    public boolean isAsymmetricSigning() {
+        return mode == Mode.ASYMMETRIC;
+    }
+
+    public SigningKey getSigningKey() {
+        SigningKey signingKey = keySet.signingKey();
+        if (signingKey == null) {
+            throw new IllegalStateException("No active signing key");
+        }
+        return signingKey;
+    }
+
+    public PublicKey findPublicKey(String keyId) {
+        return keySet.publicKeys().get(keyId);
+    }
+
+    public Map<String, Object> getJwks() {
+        return keySet.jwks();
+    }
+
+    public String getJwksETag() {
+        return keySet.jwksETag();
+    }
+
+    @Scheduled(
+            initialDelayString = "${security.jwt.signing.refresh-interval:PT1M}",
+            fixedDelayString = "${security.jwt.signing.refresh-interval:PT1M}")
+    public void refresh() {
+        if (keyDirectory == null) {
+            return;
+        }
+        try {
+            String fingerprint = fingerprint();
+            if (fingerprint.equals(keySet.fingerprint())) {
+                return;
+            }
+            KeySet loaded = load(fingerprint);
+            if (mode == Mode.ASYMMETRIC && loaded.signingKey() == null) {
+                log.warn("Signing key directory {} has no private key, keeping previous key set", keyDirectory);
+                return;
+            }
+            keySet = loaded;
+            log.info("Loaded JWT signing keys {} (active: {})", loaded.publicKeys().keySet(),
+                    loaded.signingKey() == null ? null : loaded.signingKey().keyId());
+        } catch (IOException | GeneralSecurityException e) {
+            log.error("Failed to load JWT signing keys from {}, keeping previous key set", keyDirectory, e);
+        }
+    }
+
+    private String fingerprint() throws IOException {
+        try (Stream<Path> files = Files.list(keyDirectory)) {
+            List<String> entries = new ArrayList<>();
+            for (Path file : files.sorted().toList()) {
+                if (isKeyFile(file)) {
+                    entries.add(file.getFileName() + ":" + Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis());
+                }
+            }
+            return String.join(",", entries);
+        }
+    }
+
+    private KeySet load(String fingerprint) throws IOException, GeneralSecurityException {
+        Map<String, PublicKey> publicKeys = new TreeMap<>();
+        Map<String, Path> privateKeyFiles = new TreeMap<>();
+        try (Stream<Path> files = Files.list(keyDirectory)) {
+            for (Path file : files.toList()) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(PUBLIC_KEY_SUFFIX)) {
+                    publicKeys.put(keyId(fileName, PUBLIC_KEY_SUFFIX), readPublicKey(file));
+                } else if (fileName.endsWith(PRIVATE_KEY_SUFFIX)) {
+                    privateKeyFiles.put(keyId(fileName, PRIVATE_KEY_SUFFIX), file);
+                }
+            }
+        }
+
+        String signingKeyId = activeKeyId;
+        if (signingKeyId == null) {
+            signingKeyId = privateKeyFiles.keySet().stream()
+                    .filter(publicKeys::containsKey)
+                    .reduce((first, second) -> second)
+                    .orElse(null);
+        }
+        SigningKey signingKey = null;
+        if (signingKeyId != null && privateKeyFiles.containsKey(signingKeyId) && publicKeys.containsKey(signingKeyId)) {
+            signingKey = new SigningKey(signingKeyId, readPrivateKey(privateKeyFiles.get(signingKeyId)));
+        }
+
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        publicKeys.forEach((keyId, publicKey) -> jwks.add(toJwk(keyId, publicKey)));
+        return new KeySet(
+                fingerprint,
+                Collections.unmodifiableMap(publicKeys),
+                signingKey,
+                Map.of("keys", Collections.unmodifiableList(jwks)),
+                eTag(fingerprint));
+    }
+
+    private static String eTag(String fingerprint) {
+        return "\"" + DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static boolean isKeyFile(Path file) {
+        String fileName = file.getFileName().toString();
+        return fileName.endsWith(PUBLIC_KEY_SUFFIX) || fileName.endsWith(PRIVATE_KEY_SUFFIX);
+    }
+
+    private static String keyId(String fileName, String suffix) {
+        return fileName.substring(0, fileName.length() - suffix.length());
+    }
+
+    private static PublicKey readPublicKey(Path file) throws IOException, GeneralSecurityException {
+        X509EncodedKeySpec spec = new X509EncodedKeySpec(readPem(file));
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(spec);
+        } catch (GeneralSecurityException e) {
+            return KeyFactory.getInstance("Ed25519").generatePublic(spec);
+        }
+    }
+
+    private static PrivateKey readPrivateKey(Path file) throws IOException, GeneralSecurityException {
+        PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(readPem(file));
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(spec);
+        } catch (GeneralSecurityException e) {
+            return KeyFactory.getInstance("Ed25519").generatePrivate(spec);
+        }
+    }
+
+    private static byte[] readPem(Path file) throws IOException {
+        StringBuilder base64 = new StringBuilder();
+        for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+            if (!line.startsWith("-----")) {
+                base64.append(line.trim());
+            }
+        }
+        return Base64.getDecoder().decode(base64.toString());
+    }
+
+    private static Map<String, Object> toJwk(String keyId, PublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (publicKey instanceof ECPublicKey ecPublicKey) {
+            int fieldSize = ecPublicKey.getParams().getCurve().getField().getFieldSize();
+            int length = (fieldSize + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("crv", fieldSize == 521 ? "P-521" : "P-" + fieldSize);
+            jwk.put("x", BASE64URL.encodeToString(toUnsigned(ecPublicKey.getW().getAffineX(), length)));
+            jwk.put("y", BASE64URL.encodeToString(toUnsigned(ecPublicKey.getW().getAffineY(), length)));
+            jwk.put("alg", fieldSize == 521 ? "ES512" : "ES" + fieldSize);
+        } else if (publicKey instanceof EdECPublicKey edPublicKey) {
+            byte[] encoded = edPublicKey.getEncoded();
+            // X.509 SubjectPublicKeyInfo의 마지막 32바이트가 Ed25519 raw 공개키입니다.
+            jwk.put("kty", "OKP");
+            jwk.put("crv", edPublicKey.getParams().getName());
+            jwk.put("x", BASE64URL.encodeToString(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+            jwk.put("alg", "EdDSA");
+        }
+        jwk.put("use", "sig");
+        jwk.put("kid", keyId);
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    private static byte[] toUnsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] unsigned = new byte[length];
+        int copyLength = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copyLength, unsigned, length - copyLength, copyLength);
+        return unsigned;
+    }
+}
@@ -1,29 +1,94 @@
 package com.getourhome.agentservice.util;
 
+import com.getourhome.agentservice.exception.TokenRevokedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
 
 @Component
 @Slf4j
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
+    private static final long DEFAULT_CACHE_MAXIMUM_SIZE = 10_000L;
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(5);
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
     private final SecretKey secretKey;
     private final Long validityInMilliseconds;
     private final String role = "AGENT";
+    private final JwtSigningKeys signingKeys;
+    private final HmacTokenSigner hmacTokenSigner;
+    private final JwtParser jwtParser;
+    private final Duration cacheTtl;
+    private final Cache<ByteBuffer, JwtClaims> verifiedTokenCache;
+    private final TokenRevocationCheck revocationCheck;
+
+    public JwtTokenProvider(String secretKey, Long validityInMilliseconds) {
+        this(secretKey, validityInMilliseconds, DEFAULT_CACHE_MAXIMUM_SIZE, DEFAULT_CACHE_TTL,
+                JwtSigningKeys.hmacOnly(), false);
+    }
+
+    public JwtTokenProvider(String secretKey, Long validityInMilliseconds, long cacheMaximumSize, Duration cacheTtl,
+                            JwtSigningKeys signingKeys, boolean fastSignerEnabled) {
+        this(secretKey, validityInMilliseconds, cacheMaximumSize, cacheTtl, signingKeys, fastSignerEnabled,
+                TokenRevocationCheck.NONE);
+    }
 
+    @Autowired
     public JwtTokenProvider(
             @Value("${security.jwt.token.secret-key}") String secretKey,
-            @Value("${security.jwt.token.expire-length}") Long validityInMilliseconds
+            @Value("${security.jwt.token.expire-length}") Long validityInMilliseconds,
+            @Value("${security.jwt.token.cache.maximum-size:10000}") long cacheMaximumSize,
+            @Value("${security.jwt.token.cache.ttl:5m}") Duration cacheTtl,
+            JwtSigningKeys signingKeys,
+            @Value("${security.jwt.token.fast-signer.enabled:false}") boolean fastSignerEnabled,
+            TokenRevocationCheck revocationCheck
     ) {
+        this.revocationCheck = revocationCheck;
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
         this.validityInMilliseconds = validityInMilliseconds;
+        this.signingKeys = signingKeys;
+        this.hmacTokenSigner = fastSignerEnabled ? new HmacTokenSigner(this.secretKey) : null;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new VerificationKeyLocator())
+                .build();
+        this.cacheTtl = cacheTtl;
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .recordStats()
+                .build();
     }
 
     public String createToken(UUID id, String agencyName) {
@@ -31,13 +96,18 @@ public class JwtTokenProvider {
 
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
-        return Jwts.builder()
+        String tokenId = UUID.randomUUID().toString();
+        if (canUseFastSigner(agencyName)) {
+            return hmacTokenSigner.sign(id, agencyName, role, tokenId,
+                    now.getTime() / 1000, validity.getTime() / 1000);
+        }
+        return newSignedBuilder()
                 .claim("id", id.toString())
                 .claim("agencyName", agencyName)
                 .claim("role", role)
+                .id(tokenId)
                 .issuedAt(now)
                 .expiration(validity)
-                .signWith(secretKey)
                 .compact();
     }
 
@@ -47,21 +117,58 @@ public class JwtTokenProvider {
         log.info("now: " + now );
         log.info("validity: " + validity );
 
-        return Jwts.builder()
+        // 만료가 없는 토큰은 jti 또는 발급 시각 기준으로만 폐기할 수 있습니다.
+        String tokenId = UUID.randomUUID().toString();
+        if (canUseFastSigner(agencyName)) {
+            return hmacTokenSigner.sign(id, agencyName, role, tokenId, now.getTime() / 1000, null);
+        }
+        return newSignedBuilder()
                 .claim("id", id.toString())
                 .claim("agencyName", agencyName)
                 .claim("role", role)
-                .signWith(secretKey)
+                .id(tokenId)
+                .issuedAt(now)
                 .compact();
     }
 
+    /**
+     * 토큰 서명을 한 번만 검증하고 claim 전체를 반환합니다.
+     * 검증된 토큰은 SHA-256 digest 기준으로 만료 시각까지 캐시되어 재검증을 생략합니다.
+     * 캐시에는 서명, 만료 검증 결과만 저장하며 폐기 여부는 확인하지 않습니다. 폐기까지 확인하려면 {@link #verifyActive(String)}를 사용합니다.
+     *
+     * @throws io.jsonwebtoken.JwtException 서명 또는 형식이 올바르지 않거나 만료된 경우
+     */
+    public JwtClaims verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT가 비어 있습니다.");
+        }
+        ByteBuffer cacheKey = digest(token);
+        JwtClaims cached = verifiedTokenCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        JwtClaims claims = JwtClaims.from(jwtParser.parseSignedClaims(token).getPayload());
+        verifiedTokenCache.put(cacheKey, claims);
+        return claims;
+    }
+
+    /**
+     * {@link #verify(String)}에 더해 호출할 때마다 폐기 여부를 확인합니다. 캐시된 토큰도 폐기되면 바로 거부됩니다.
+     *
+     * @throws TokenRevokedException 폐기된 토큰인 경우
+     */
+    public JwtClaims verifyActive(String token) {
+        JwtClaims claims = verify(token);
+        if (revocationCheck.isRevoked(claims)) {
+            throw new TokenRevokedException();
+        }
+        return claims;
+    }
+
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            verifyActive(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -69,31 +176,93 @@ public class JwtTokenProvider {
     }
 
     public String getAgencyName(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("agencyName", String.class);
+        return verifyActive(token).agencyName();
     }
 
     public UUID getUserPk(String token) {
-        String idStr = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("id", String.class);
-        return UUID.fromString(idStr);
+        return verifyActive(token).id();
     }
 
     public String getRole(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
+        return verifyActive(token).role();
     }
 
+    public long getValidityInMilliseconds() {
+        return validityInMilliseconds;
+    }
+
+    public long getVerifiedTokenCacheHitCount() {
+        return verifiedTokenCache.stats().hitCount();
+    }
+
+    public long getVerifiedTokenCacheMissCount() {
+        return verifiedTokenCache.stats().missCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokenCache, "jwt.verified-tokens");
+    }
+
+    private boolean canUseFastSigner(String agencyName) {
+        return hmacTokenSigner != null
+                && !signingKeys.isAsymmetricSigning()
+                && agencyName != null
+                && HmacTokenSigner.canEncode(agencyName);
+    }
+
+    private JwtBuilder newSignedBuilder() {
+        if (!signingKeys.isAsymmetricSigning()) {
+            return Jwts.builder().signWith(secretKey);
+        }
+        JwtSigningKeys.SigningKey signingKey = signingKeys.getSigningKey();
+        return Jwts.builder()
+                .header().keyId(signingKey.keyId()).and()
+                .signWith(signingKey.privateKey());
+    }
+
+    private static ByteBuffer digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        sha256.reset();
+        return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private class VerificationKeyLocator extends LocatorAdapter<Key> {
+        @Override
+        protected Key locate(JwsHeader header) {
+            // kid가 없으면 기존 HMAC 공유키로 서명된 토큰입니다.
+            if (header.getKeyId() == null) {
+                return secretKey;
+            }
+            Key publicKey = signingKeys.findPublicKey(header.getKeyId());
+            if (publicKey == null) {
+                throw new UnsupportedJwtException("알 수 없는 서명 키입니다. kid: " + header.getKeyId());
+            }
+            return publicKey;
+        }
+    }
+
+    private class VerifiedTokenExpiry implements Expiry<ByteBuffer, JwtClaims> {
+        @Override
+        public long expireAfterCreate(ByteBuffer key, JwtClaims claims, long currentTime) {
+            if (claims.expiration() == null) {
+                return cacheTtl.toNanos();
+            }
+            Duration untilExpiration = Duration.between(Instant.now(), claims.expiration());
+            if (untilExpiration.isNegative()) {
+                return 0L;
+            }
+            return Math.min(cacheTtl.toNanos(), untilExpiration.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,190 @@
+package com.getourhome.agentservice.util;
+
+import com.getourhome.agentservice.exception.LoginThrottledException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 시도를 user_id와 클라이언트 주소별로 제한합니다.
+ * 리포지토리 조회나 BCrypt 검증 전에 {@link #checkAllowed(String, String)}를 호출해야 하며,
+ * 제한된 요청은 카운터 조회만으로 거부됩니다.
+ * <ul>
+ *     <li>계정: window 동안 실패한 로그인 횟수가 max-failures에 도달하면 잠급니다. 성공하면 초기화됩니다.</li>
+ *     <li>클라이언트: window 동안 시도한 로그인 횟수가 max-attempts에 도달하면 제한합니다.</li>
+ * </ul>
+ */
+@Component
+public class LoginThrottle implements MeterBinder {
+    private final boolean enabled;
+    private final Clock clock;
+    private final Dimension account;
+    private final Dimension client;
+
+    private volatile Counter accountThrottledCounter;
+    private volatile Counter clientThrottledCounter;
+
+    @Autowired
+    public LoginThrottle(
+            @Value("${security.login-throttle.enabled:true}") boolean enabled,
+            @Value("${security.login-throttle.account.max-failures:5}") int accountMaxFailures,
+            @Value("${security.login-throttle.account.window:PT15M}") Duration accountWindow,
+            @Value("${security.login-throttle.client.max-attempts:30}") int clientMaxAttempts,
+            @Value("${security.login-throttle.client.window:PT1M}") Duration clientWindow,
+            @Value("${security.login-throttle.maximum-keys:100000}") long maximumKeys
+    ) {
+        this(enabled, accountMaxFailures, accountWindow, clientMaxAttempts, clientWindow, maximumKeys, Clock.systemUTC());
+    }
+
+    LoginThrottle(boolean enabled, int accountMaxFailures, Duration accountWindow,
+                  int clientMaxAttempts, Duration clientWindow, long maximumKeys, Clock clock) {
+        this.enabled = enabled;
+        this.clock = clock;
+        this.account = new Dimension(accountMaxFailures, accountWindow, maximumKeys);
+        this.client = new Dimension(clientMaxAttempts, clientWindow, maximumKeys);
+    }
+
+    /**
+     * 제한된 계정이나 클라이언트면 {@link LoginThrottledException}을 던집니다.
+     * 제한되지 않았으면 클라이언트의 시도 횟수를 하나 올립니다.
+     */
+    public void checkAllowed(String userId, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        if (userId != null) {
+            long retryAfter = account.retryAfterMillis(userId, now);
+            if (retryAfter > 0) {
+                increment(accountThrottledCounter);
+                throw new LoginThrottledException(Duration.ofMillis(retryAfter));
+            }
+        }
+        if (clientAddress != null) {
+            long retryAfter = client.retryAfterMillis(clientAddress, now);
+            if (retryAfter > 0) {
+                increment(clientThrottledCounter);
+                throw new LoginThrottledException(Duration.ofMillis(retryAfter));
+            }
+            client.record(clientAddress, now);
+        }
+    }
+
+    public void recordFailure(String userId) {
+        if (enabled && userId != null) {
+            account.record(userId, clock.millis());
+        }
+    }
+
+    public void recordSuccess(String userId) {
+        if (enabled && userId != null) {
+            account.counters.invalidate(userId);
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.accountThrottledCounter = Counter.builder("login.throttled")
+                .description("로그인 시도 제한으로 거부된 요청 수")
+                .tag("scope", "account")
+                .register(registry);
+        this.clientThrottledCounter = Counter.builder("login.throttled")
+                .description("로그인 시도 제한으로 거부된 요청 수")
+                .tag("scope", "client")
+                .register(registry);
+    }
+
+    private static final class Dimension {
+        private final int limit;
+        private final long windowMillis;
+        private final Cache<String, SlidingWindowCounter> counters;
+
+        private Dimension(int limit, Duration window, long maximumKeys) {
+            this.limit = limit;
+            this.windowMillis = window.toMillis();
+            // 직전 window까지 반영하므로 두 window 동안 접근이 없으면 카운터를 버립니다.
+            this.counters = Caffeine.newBuilder()
+                    .maximumSize(maximumKeys)
+                    .expireAfterAccess(window.multipliedBy(2))
+                    .build();
+        }
+
+        private long retryAfterMillis(String key, long now) {
+            SlidingWindowCounter counter = counters.getIfPresent(key);
+            return counter == null ? 0 : counter.retryAfterMillis(now, windowMillis, limit);
+        }
+
+        private void record(String key, long now) {
+            counters.get(key, k -> new SlidingWindowCounter()).increment(now, windowMillis);
+        }
+    }
+
+    /**
+     * 직전 window와 현재 window의 횟수로 sliding window를 근사하는 lock-free 카운터입니다.
+     * window 번호(32bit), 직전 횟수(16bit), 현재 횟수(16bit)를 long 하나에 담아 CAS로 갱신합니다.
+     */
+    static final class SlidingWindowCounter {
+        private static final long COUNT_MASK = 0xFFFFL;
+
+        private final AtomicLong state = new AtomicLong();
+
+        void increment(long now, long windowMillis) {
+            long window = now / windowMillis;
+            while (true) {
+                long current = state.get();
+                long rolled = roll(current, window);
+                long count = rolled & COUNT_MASK;
+                long next = count == COUNT_MASK ? rolled : rolled + 1;
+                if (state.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 추정치가 limit 아래로 내려갈 때까지 남은 시간을 반환합니다. 이미 아래면 0입니다.
+         */
+        long retryAfterMillis(long now, long windowMillis, int limit) {
+            long rolled = roll(state.get(), now / windowMillis);
+            long previous = (rolled >>> 16) & COUNT_MASK;
+            long current = rolled & COUNT_MASK;
+            long elapsed = Math.floorMod(now, windowMillis);
+            if (previous * (windowMillis - elapsed) + current * windowMillis < (long) limit * windowMillis) {
+                return 0;
+            }
+            if (current < limit) {
+                // 현재 window 안에서 직전 window의 비중이 충분히 줄어들 때
+                long until = windowMillis - (limit - current) * windowMillis / previous;
+                return Math.max(1, until - elapsed + 1);
+            }
+            // 다음 window에서 현재 횟수가 직전 window가 되어 줄어들 때
+            long until = windowMillis - (long) limit * windowMillis / current;
+            return windowMillis - elapsed + until + 1;
+        }
+
+        private static long roll(long state, long window) {
+            long stateWindow = state >>> 32;
+            long currentWindow = window & 0xFFFFFFFFL;
+            if (stateWindow == currentWindow) {
+                return state;
+            }
+            long previous = stateWindow == ((currentWindow - 1) & 0xFFFFFFFFL) ? state & COUNT_MASK : 0;
+            return (currentWindow << 32) | (previous << 16);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.getourhome.agentservice.util;
+
+import com.getourhome.agentservice.exception.PasswordHashingRejectedException;
+import com.getourhome.agentservice.exception.PasswordHashingTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱, 검증 전용 스레드 풀입니다.
+ * 요청 스레드가 해싱에 묶이지 않도록 크기가 제한된 풀과 대기열에서 실행하고,
+ * 대기열이 가득 차면 {@link PasswordHashingRejectedException}, deadline을 넘기면
+ * {@link PasswordHashingTimeoutException}을 던집니다.
+ * <p>
+ * 가상 스레드 모드에서도 이 풀은 플랫폼 스레드로 유지합니다. CPU를 오래 쓰는 해싱이 carrier 스레드를 점유하지 않고,
+ * 동시에 실행되는 해싱 수도 pool-size로 제한됩니다. 요청 가상 스레드는 결과를 기다리는 동안 carrier를 반납합니다.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor implements MeterBinder {
+    private static final String METRIC_PREFIX = "password.hashing";
+    private static final ThreadLocal<Boolean> ON_HASHING_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private final ThreadPoolExecutor executor;
+    private final Duration deadline;
+    private final Duration retryAfter;
+
+    private volatile Timer waitTimer;
+    private volatile Timer executionTimer;
+    private volatile Counter queueFullCounter;
+    private volatile Counter deadlineCounter;
+
+    public PasswordHashingExecutor(
+            @Value("${security.password-hashing.pool-size:0}") int poolSize,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.deadline:PT2S}") Duration deadline,
+            @Value("${security.password-hashing.retry-after:PT1S}") Duration retryAfter
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.deadline = deadline;
+        this.retryAfter = retryAfter;
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        return submit(task).await();
+    }
+
+    /**
+     * 작업을 대기열에 넣고 바로 반환합니다. 결과는 {@link Submission#await()}로 받으며,
+     * deadline은 제출 시점부터 계산합니다.
+     */
+    public <T> Submission<T> submit(Supplier<T> task) {
+        // 해싱 스레드 안에서 다시 호출되면 자기 자신을 기다리지 않도록 바로 실행합니다.
+        if (ON_HASHING_THREAD.get()) {
+            return new Submission<>(CompletableFuture.completedFuture(task.get()), System.nanoTime());
+        }
+
+        long enqueuedAt = System.nanoTime();
+        try {
+            return new Submission<>(executor.submit(() -> run(task, enqueuedAt)), enqueuedAt);
+        } catch (RejectedExecutionException e) {
+            increment(queueFullCounter);
+            throw new PasswordHashingRejectedException(retryAfter);
+        }
+    }
+
+    public final class Submission<T> {
+        private final Future<T> future;
+        private final long submittedAt;
+
+        private Submission(Future<T> future, long submittedAt) {
+            this.future = future;
+            this.submittedAt = submittedAt;
+        }
+
+        public T await() {
+            try {
+                long remaining = deadline.toNanos() - (System.nanoTime() - submittedAt);
+                return future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | CancellationException e) {
+                cancel();
+                increment(deadlineCounter);
+                throw new PasswordHashingTimeoutException(retryAfter);
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new PasswordHashingTimeoutException(retryAfter);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        /**
+         * 결과가 필요 없어졌을 때 호출합니다. 아직 대기열에 있는 작업은 실행되지 않습니다.
+         */
+        public void cancel() {
+            if (future.cancel(false)) {
+                executor.purge();
+            }
+        }
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T run(Supplier<T> task, long enqueuedAt) {
+        long startedAt = System.nanoTime();
+        record(waitTimer, startedAt - enqueuedAt);
+        ON_HASHING_THREAD.set(true);
+        try {
+            return task.get();
+        } finally {
+            ON_HASHING_THREAD.set(false);
+            record(executionTimer, System.nanoTime() - startedAt);
+        }
+    }
+
+    private static void record(Timer timer, long nanos) {
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 해싱 대기열에 쌓인 작업 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".queue.remaining", executor, e -> e.getQueue().remainingCapacity())
+                .description("비밀번호 해싱 대기열의 남은 자리")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(registry);
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("대기열에서 해싱 스레드를 기다린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.executionTimer = Timer.builder(METRIC_PREFIX + ".execution")
+                .description("해싱, 검증에 걸린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.queueFullCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("reason", "queue_full")
+                .register(registry);
+        this.deadlineCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("reason", "deadline")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,47 @@
+package com.getourhome.agentservice.util;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 조회를 읽기 전용 트랜잭션에서 실행하고, {@link ReplicaRoutingDataSource}가 설정되어 있으면 replica로 보냅니다.
+ * <p>
+ * replica는 primary보다 늦을 수 있으므로 방금 쓴 데이터를 다시 읽어야 하는 경로에서는 사용하지 않습니다.
+ * 이미 진행 중인 트랜잭션 안에서 호출하면 그 트랜잭션의 연결(primary)을 그대로 사용합니다.
+ * 라우팅이 꺼져 있으면 단일 DataSource에서 읽기 전용 트랜잭션으로만 실행됩니다.
+ */
+@Component
+public class ReplicaReads {
+    private static final ThreadLocal<Boolean> REQUESTED = ThreadLocal.withInitial(() -> false);
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReplicaReads(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> T read(Supplier<T> query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return query.get();
+        }
+        REQUESTED.set(true);
+        try {
+            return readOnlyTransaction.execute(status -> query.get());
+        } finally {
+            REQUESTED.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드가 {@link #read(Supplier)}로 시작한 읽기 전용 트랜잭션 안에 있는지 반환합니다.
+     * 그 안에서 REQUIRES_NEW로 시작한 쓰기 트랜잭션은 읽기 전용이 아니므로 false입니다.
+     */
+    static boolean isActive() {
+        return REQUESTED.get() && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
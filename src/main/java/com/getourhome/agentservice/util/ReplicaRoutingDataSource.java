@@ -0,0 +1,210 @@
+package com.getourhome.agentservice.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ReplicaReads}로 시작한 읽기 전용 트랜잭션은 replica로, 그 외 모든 연결은 primary로 보내는 DataSource입니다.
+ * <p>
+ * replica는 round-robin으로 고르며, 연결에 실패하거나 lag-query로 측정한 지연이 max-lag를 넘은 replica는
+ * cooldown 동안 제외합니다. 사용할 수 있는 replica가 없으면 primary에서 읽습니다.
+ * 트랜잭션의 읽기 전용 여부가 정해진 뒤 연결을 얻도록 {@code LazyConnectionDataSourceProxy}로 감싸서 사용해야 합니다.
+ * 지연 확인은 응답하지 않는 replica가 다른 예약 작업을 막지 않도록 {@link #startChecks(Duration)}로 시작한 전용 스레드에서 실행합니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration cooldown;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Clock clock;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder fallbacks = new LongAdder();
+    private ScheduledExecutorService checker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                                    Duration cooldown, String lagQuery, Duration maxLag) {
+        this(primary, replicas, cooldown, lagQuery, maxLag, Clock.systemUTC());
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                             Duration cooldown, String lagQuery, Duration maxLag, Clock clock) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("replica가 하나 이상 필요합니다.");
+        }
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + i, replicas.get(i)));
+        }
+        this.cooldown = cooldown;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLag = maxLag;
+        this.clock = clock;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = route();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            markUnavailable(replica, e.getMessage());
+            fallbacks.increment();
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 다른 계정으로 얻는 연결은 replica 풀의 계정과 맞지 않으므로 항상 primary로 보냅니다.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * lag-query가 설정되어 있으면 전용 스레드에서 interval마다 {@link #checkReplicas()}를 실행합니다.
+     */
+    public synchronized void startChecks(Duration interval) {
+        if (lagQuery == null || checker != null) {
+            return;
+        }
+        checker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-lag-check-"));
+        checker.scheduleWithFixedDelay(() -> {
+            try {
+                checkReplicas();
+            } catch (RuntimeException e) {
+                // 예외로 끝나면 이후 실행이 취소되므로 기록만 하고 다음 주기에 다시 확인합니다.
+                log.warn("Failed to check replica lag: {}", e.getMessage());
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * lag-query가 설정되어 있으면 각 replica의 지연(ms)을 측정해 max-lag를 넘거나 측정에 실패한 replica를 제외하고,
+     * 따라잡은 replica는 cooldown이 끝나기 전이라도 바로 다시 사용합니다.
+     */
+    public void checkReplicas() {
+        if (lagQuery == null) {
+            return;
+        }
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                long lagMillis = resultSet.next() ? resultSet.getLong(1) : 0L;
+                replica.lagMillis = lagMillis;
+                if (lagMillis > maxLag.toMillis()) {
+                    markUnavailable(replica, "지연 " + lagMillis + "ms");
+                } else {
+                    replica.unavailableUntil = 0L;
+                }
+            } catch (SQLException e) {
+                markUnavailable(replica, e.getMessage());
+            }
+        }
+    }
+
+    int availableReplicas() {
+        long now = clock.millis();
+        return (int) replicas.stream().filter(replica -> replica.unavailableUntil <= now).count();
+    }
+
+    long fallbackCount() {
+        return fallbacks.sum();
+    }
+
+    private Replica route() {
+        if (!ReplicaReads.isActive()) {
+            return null;
+        }
+        long now = clock.millis();
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.unavailableUntil <= now) {
+                return replica;
+            }
+        }
+        fallbacks.increment();
+        return null;
+    }
+
+    private void markUnavailable(Replica replica, String reason) {
+        boolean wasAvailable = replica.unavailableUntil <= clock.millis();
+        replica.unavailableUntil = clock.millis() + cooldown.toMillis();
+        if (wasAvailable) {
+            log.warn("{}을(를) {} 동안 제외합니다: {}", replica.name, cooldown, reason);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.replicas.available", this, ReplicaRoutingDataSource::availableReplicas)
+                .description("현재 읽기에 사용할 수 있는 replica 수")
+                .register(registry);
+        FunctionCounter.builder("datasource.replica.fallbacks", fallbacks, LongAdder::sum)
+                .description("replica 대신 primary에서 읽은 트랜잭션 수")
+                .register(registry);
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMillis)
+                    .tag("replica", replica.name)
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 지연 확인을 멈추고 replica 풀을 닫습니다. primary는 별도 빈으로 관리되므로 닫지 않습니다.
+     */
+    @Override
+    public void close() throws Exception {
+        synchronized (this) {
+            if (checker != null) {
+                checker.shutdownNow();
+            }
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long unavailableUntil;
+        private volatile long lagMillis;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.getourhome.agentservice.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hibernate가 실행하는 SQL 중 sample-every개마다 하나를 DEBUG 레벨로 기록합니다.
+ * {@code show-sql}처럼 모든 문장을 stdout에 쓰지 않고, 로거 레벨이 DEBUG가 아니면 카운터도 올리지 않습니다.
+ * SQL은 변경하지 않고 그대로 반환합니다.
+ */
+@Slf4j
+public class SampledSqlLogger implements StatementInspector {
+    private final long sampleEvery;
+    private final AtomicLong statements = new AtomicLong();
+
+    public SampledSqlLogger(long sampleEvery) {
+        if (sampleEvery < 1) {
+            throw new IllegalArgumentException("sample-every는 1 이상이어야 합니다: " + sampleEvery);
+        }
+        this.sampleEvery = sampleEvery;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (log.isDebugEnabled() && statements.getAndIncrement() % sampleEvery == 0) {
+            log.debug("[1/{}] {}", sampleEvery, sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,11 @@
+package com.getourhome.agentservice.util;
+
+/**
+ * 서명과 만료 검증을 통과한 토큰이 폐기되었는지 판단합니다. {@link JwtTokenProvider}가 검증 후 매번 호출합니다.
+ */
+@FunctionalInterface
+public interface TokenRevocationCheck {
+    TokenRevocationCheck NONE = claims -> false;
+
+    boolean isRevoked(JwtClaims claims);
+}
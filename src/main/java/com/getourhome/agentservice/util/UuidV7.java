@@ -0,0 +1,60 @@
+package com.getourhome.agentservice.util;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * RFC 9562 UUID version 7을 생성합니다.
+ * <p>
+ * 상위 48비트가 Unix epoch 밀리초라서 나중에 만든 id가 B-tree 인덱스의 오른쪽 끝에 쌓입니다.
+ * 나머지 74비트는 난수이며, {@link UUID#randomUUID()}처럼 공유 SecureRandom을 쓰지 않고
+ * 스레드마다 DRBG 인스턴스를 두어 여러 스레드가 동시에 생성해도 경합하지 않습니다.
+ * 가상 스레드는 요청마다 새로 만들어지므로 스레드별 인스턴스 대신 스레드 안전한 공유 DRBG 인스턴스를 사용합니다.
+ * 같은 밀리초 안에서는 순서를 보장하지 않습니다.
+ */
+public final class UuidV7 {
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(UuidV7::newSecureRandom);
+    private static final SecureRandom SHARED_RANDOM = newSecureRandom();
+
+    private UuidV7() {
+    }
+
+    public static UUID randomUuid() {
+        SecureRandom random = Thread.currentThread().isVirtual() ? SHARED_RANDOM : RANDOM.get();
+        return of(System.currentTimeMillis(), random);
+    }
+
+    static UUID of(long epochMillis, SecureRandom random) {
+        byte[] bytes = new byte[10];
+        random.nextBytes(bytes);
+        long randA = ((bytes[0] & 0xFFL) << 8 | (bytes[1] & 0xFFL)) & 0x0FFFL;
+        long randB = 0;
+        for (int i = 2; i < 10; i++) {
+            randB = randB << 8 | (bytes[i] & 0xFFL);
+        }
+        long mostSigBits = (epochMillis & 0xFFFF_FFFF_FFFFL) << 16 | 0x7000L | randA;
+        long leastSigBits = randB & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * version 7 UUID에 들어 있는 생성 시각(epoch 밀리초)을 반환합니다.
+     *
+     * @throws IllegalArgumentException version 7이 아닌 경우
+     */
+    public static long epochMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUID version 7이 아닙니다: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+-- 공인중개사 계정 테이블
+-- ddl-auto update로 만들어진 기존 스키마에도 적용할 수 있도록 if not exists로 작성합니다.
+create table if not exists users
+(
+    id                  uuid                     not null,
+    user_id             varchar(255)             not null,
+    username            varchar(255)             not null,
+    agency_name         varchar(255)             not null,
+    phone_number        varchar(255)             not null,
+    registration_number varchar(255)             not null,
+    password            varchar(255)             not null,
+    email               varchar(255)             not null,
+    registration_status smallint                 not null,
+    reject_reason       varchar(255),
+    version             bigint       default 0   not null,
+    created_at          timestamp(6) with time zone,
+    decided_at          timestamp(6) with time zone,
+    constraint pk_users primary key (id),
+    constraint uk_users_user_id unique (user_id),
+    constraint uk_users_email unique (email),
+    constraint uk_users_registration_number unique (registration_number),
+    constraint ck_users_registration_status check (registration_status between 0 and 2)
+);
+
+-- ddl-auto update는 기존 행이 있으면 not null 컬럼 추가에 실패하므로 기본값과 함께 보정합니다.
+alter table users add column if not exists version bigint default 0 not null;
+alter table users add column if not exists created_at timestamp(6) with time zone;
+alter table users add column if not exists decided_at timestamp(6) with time zone;
+-- 가입 시각이 없던 기존 행은 실제 가입 시각을 알 수 없으므로 과거의 고정 시각(1970-01-01 UTC)으로 채웁니다.
+-- 마이그레이션 시각으로 채우면 기존 사용자 전체가 그날 가입한 것으로 일별 집계되고, 목록에서도 한 시각에 몰립니다.
+-- 이 시각은 일별 통계 보관 기간 밖이므로 집계에서 빠지고, 목록에서는 가장 먼저 가입한 행으로 id 순서대로 정렬됩니다.
+update users set created_at = timestamp with time zone '1970-01-01 00:00:00+00:00' where created_at is null;
+-- 기존 스키마에는 등록번호 unique 제약이 없었습니다. 중복 등록번호가 남아 있으면 정리한 뒤 적용해야 합니다.
+create unique index if not exists uk_users_registration_number on users (registration_number);
+
+-- 가입 요청 목록 keyset 페이지네이션 (registration_status, created_at, id)
+create index if not exists idx_users_status_created_at on users (registration_status, created_at, id);
+-- 상호명 일치 조회 후 가입순 정렬 (LIKE 앞부분 검색은 이 인덱스로 정렬을 대신할 수 없어 지원하지 않습니다)
+create index if not exists idx_users_agency_name_created_at on users (agency_name, created_at, id);
+-- 일별 승인/거부 건수 보정
+create index if not exists idx_users_status_decided_at on users (registration_status, decided_at);
@@ -0,0 +1,28 @@
+-- 발급된 refresh token, 원문 대신 SHA-256 hex만 저장합니다.
+create table if not exists refresh_tokens
+(
+    id         bigint generated by default as identity,
+    token_hash varchar(64)                 not null,
+    agent_id   uuid                        not null,
+    expires_at timestamp(6) with time zone not null,
+    created_at timestamp(6) with time zone not null,
+    constraint pk_refresh_tokens primary key (id),
+    constraint uk_refresh_tokens_token_hash unique (token_hash)
+);
+
+create index if not exists idx_refresh_tokens_agent_id on refresh_tokens (agent_id);
+create index if not exists idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
+
+-- 폐기된 access token(jti) 또는 공인중개사별 일괄 폐기 기록
+create table if not exists revoked_tokens
+(
+    id            bigint generated by default as identity,
+    token_id      varchar(255),
+    agent_id      uuid,
+    issued_before timestamp(6) with time zone,
+    reason        varchar(255),
+    revoked_at    timestamp(6) with time zone not null,
+    constraint pk_revoked_tokens primary key (id)
+);
+
+create index if not exists idx_revoked_tokens_revoked_at on revoked_tokens (revoked_at);
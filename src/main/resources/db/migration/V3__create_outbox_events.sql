@@ -0,0 +1,19 @@
+-- 상태 변경과 같은 트랜잭션에서 기록하는 outbox, id는 OutboxEvent의 allocationSize와 같은 간격으로 할당합니다.
+create sequence if not exists outbox_events_seq start with 1 increment by 50;
+
+create table if not exists outbox_events
+(
+    id              bigint                      not null,
+    aggregate_id    uuid                        not null,
+    event_type      varchar(64)                 not null,
+    payload         varchar(4000)               not null,
+    created_at      timestamp(6) with time zone not null,
+    published_at    timestamp(6) with time zone,
+    attempts        integer                     not null,
+    next_attempt_at timestamp(6) with time zone not null,
+    last_error      varchar(500),
+    constraint pk_outbox_events primary key (id)
+);
+
+-- relay가 미전달 이벤트를 id 순으로 가져갈 때 사용합니다.
+create index if not exists idx_outbox_events_published_at_id on outbox_events (published_at, id);
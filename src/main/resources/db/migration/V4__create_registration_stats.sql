@@ -0,0 +1,8 @@
+-- 가입 요청 통계 요약, 키 하나당 한 행 (status.PENDING, registered.2026-01-01 등)
+create table if not exists registration_stats
+(
+    stat_key   varchar(40)                 not null,
+    stat_value bigint                      not null,
+    updated_at timestamp(6) with time zone not null,
+    constraint pk_registration_stats primary key (stat_key)
+);
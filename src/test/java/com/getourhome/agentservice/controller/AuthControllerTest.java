@@ -2,27 +2,40 @@ package com.getourhome.agentservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.getourhome.agentservice.dto.request.LoginRequestDto;
+import com.getourhome.agentservice.dto.request.TokenRefreshRequestDto;
 import com.getourhome.agentservice.dto.request.UserRegisterDto;
 import com.getourhome.agentservice.entity.RegistrationStatus;
-import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.exception.PasswordHashingRejectedException;
+import com.getourhome.agentservice.exception.PasswordHashingTimeoutException;
+import com.getourhome.agentservice.repository.AgentAccount;
 import com.getourhome.agentservice.service.AuthService;
+import com.getourhome.agentservice.service.RefreshTokenService;
+import com.getourhome.agentservice.exception.LoginThrottledException;
 import com.getourhome.agentservice.util.JwtTokenProvider;
+import com.getourhome.agentservice.util.LoginThrottle;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -33,7 +46,11 @@ class AuthControllerTest {
     @MockBean
     private AuthService authService;
     @MockBean
+    private RefreshTokenService refreshTokenService;
+    @MockBean
     private JwtTokenProvider jwtTokenProvider;
+    @MockBean
+    private LoginThrottle loginThrottle;
 
     private final MockMvc mvc;
     private final ObjectMapper objectMapper;
@@ -60,7 +77,7 @@ class AuthControllerTest {
                 .password("tester1234")
                 .email("tester@test.com")
                 .build();
-
+        when(authService.registerUser(any(UserRegisterDto.class))).thenReturn(AuthService.RegistrationResult.REGISTERED);
 
         // when & then
         mvc.perform(
@@ -86,7 +103,7 @@ class AuthControllerTest {
                 .email("tester2@test.com")
                 .build();
 
-        when(authService.findByUserId("tester")).thenReturn(Optional.of(new User()));
+        when(authService.registerUser(any(UserRegisterDto.class))).thenReturn(AuthService.RegistrationResult.DUPLICATE_USER_ID);
 
         // when & then
         mvc.perform(
@@ -112,7 +129,7 @@ class AuthControllerTest {
                 .email("tester2@test.com")
                 .build();
 
-        when(authService.findByEmail("tester2@test.com")).thenReturn(Optional.of(new User()));
+        when(authService.registerUser(any(UserRegisterDto.class))).thenReturn(AuthService.RegistrationResult.DUPLICATE_EMAIL);
 
         // when & then
         mvc.perform(
@@ -137,7 +154,7 @@ class AuthControllerTest {
                 .email("tester2@test.com")
                 .build();
 
-        when(authService.findByRegistrationNumber("11111-0000-1111")).thenReturn(Optional.of(new User()));
+        when(authService.registerUser(any(UserRegisterDto.class))).thenReturn(AuthService.RegistrationResult.DUPLICATE_REGISTRATION_NUMBER);
 
         // when & then
         mvc.perform(
@@ -157,10 +174,10 @@ class AuthControllerTest {
                 .password("test123")
                 .build();
 
-        User user = new User();
-        user.setRegistrationStatus(RegistrationStatus.ACCEPTED);
+        AgentAccount account = new AgentAccount(
+                UUID.randomUUID(), "tester", "테스트 공인중개사", "hash", RegistrationStatus.ACCEPTED);
 
-        when(authService.login(any(LoginRequestDto.class))).thenReturn(user);
+        when(authService.login(any(LoginRequestDto.class))).thenReturn(account);
         when(jwtTokenProvider.createToken(any(UUID.class), any(String.class))).thenReturn("jwtToken");
 
         // When & Then
@@ -180,7 +197,8 @@ class AuthControllerTest {
                 .password("test123")
                 .build();
 
-        when(authService.login(any(LoginRequestDto.class))).thenReturn(new User());
+        when(authService.login(any(LoginRequestDto.class))).thenReturn(new AgentAccount(
+                UUID.randomUUID(), "tester", "테스트 공인중개사", "hash", RegistrationStatus.PENDING));
         when(jwtTokenProvider.createToken(any(UUID.class), any(String.class))).thenReturn("jwtToken");
 
         // When & Then
@@ -208,4 +226,136 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(loginRequestDto)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @DisplayName("사용자 로그인 - 로그인 시도 제한, 인증 없이 429 반환")
+    @Test
+    void givenLoginRequestDto_whenThrottled_thenReturnTooManyRequestsWithoutLogin() throws Exception{
+        // Given
+        LoginRequestDto loginRequestDto = LoginRequestDto
+                .builder()
+                .userId("tester")
+                .password("test123")
+                .build();
+
+        doThrow(new LoginThrottledException(Duration.ofSeconds(30)))
+                .when(loginThrottle).checkAllowed(eq("tester"), anyString());
+
+        // When & Then
+        mvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequestDto)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+        then(authService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("사용자 로그인 - 잘못된 비밀번호, 실패 횟수 기록")
+    @Test
+    void givenLoginRequestDto_whenInvalidCredentials_thenRecordFailure() throws Exception{
+        // Given
+        LoginRequestDto loginRequestDto = LoginRequestDto
+                .builder()
+                .userId("tester")
+                .password("test123")
+                .build();
+
+        when(authService.login(any(LoginRequestDto.class))).thenReturn(null);
+
+        // When
+        mvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequestDto)))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        then(loginThrottle).should().recordFailure("tester");
+    }
+
+    @DisplayName("사용자 로그인 - 해싱 대기열 포화, 429와 Retry-After 반환")
+    @Test
+    void givenLoginRequestDto_whenHashingQueueFull_thenReturnTooManyRequests() throws Exception{
+        // Given
+        LoginRequestDto loginRequestDto = LoginRequestDto
+                .builder()
+                .userId("tester")
+                .password("tester1234")
+                .build();
+
+        when(authService.login(any(LoginRequestDto.class)))
+                .thenThrow(new PasswordHashingRejectedException(Duration.ofSeconds(2)));
+
+        // When & Then
+        mvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequestDto)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+    }
+
+    @DisplayName("사용자 회원가입 - 해싱 deadline 초과, 503과 Retry-After 반환")
+    @Test
+    void givenUserRegisterDto_whenHashingDeadlineExceeded_thenReturnServiceUnavailable() throws Exception{
+        // Given
+        UserRegisterDto userRegisterDto = UserRegisterDto
+                .newBuilder()
+                .userId("tester")
+                .username("김테스트")
+                .phoneNumber("01012341234")
+                .registrationNumber("11111-0000-1111")
+                .agencyName("테스트 공인중개사")
+                .password("tester1234")
+                .email("tester@test.com")
+                .build();
+
+        doThrow(new PasswordHashingTimeoutException(Duration.ofMillis(500)))
+                .when(authService).registerUser(any(UserRegisterDto.class));
+
+        // When & Then
+        mvc.perform(post("/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRegisterDto)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @DisplayName("JWT 재발급 - 유효한 refresh token, 새 토큰 발급")
+    @Test
+    void givenValidRefreshToken_whenRefreshToken_thenReturnOk() throws Exception{
+        // Given
+        TokenRefreshRequestDto requestDto = TokenRefreshRequestDto
+                .builder()
+                .refreshToken("refreshToken")
+                .build();
+        UUID agentId = UUID.randomUUID();
+
+        when(refreshTokenService.renew("refreshToken"))
+                .thenReturn(Optional.of(new RefreshTokenService.Renewal(agentId, "테스트 공인중개사", "newRefreshToken")));
+        when(jwtTokenProvider.createToken(agentId, "테스트 공인중개사")).thenReturn("jwtToken");
+
+        // When & Then
+        mvc.perform(post("/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jwt").value("jwtToken"))
+                .andExpect(jsonPath("$.refresh_token").value("newRefreshToken"));
+    }
+
+    @DisplayName("JWT 재발급 - 유효하지 않은 refresh token, 재발급 거부")
+    @Test
+    void givenInvalidRefreshToken_whenRefreshToken_thenReturnUnAuth() throws Exception{
+        // Given
+        TokenRefreshRequestDto requestDto = TokenRefreshRequestDto
+                .builder()
+                .refreshToken("invalidRefreshToken")
+                .build();
+
+        when(refreshTokenService.renew("invalidRefreshToken")).thenReturn(Optional.empty());
+
+        // When & Then
+        mvc.perform(post("/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -1,8 +1,12 @@
 package com.getourhome.agentservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getourhome.agentservice.dto.request.RegistrationDecisionRequestDto;
 import com.getourhome.agentservice.dto.request.RejectRegistrationRequestDto;
-import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.dto.response.RegistrationDecisionResultDto;
+import com.getourhome.agentservice.dto.response.RegistrationPageResponseDto;
+import com.getourhome.agentservice.dto.response.RegistrationSummaryDto;
+import com.getourhome.agentservice.entity.RegistrationStatus;
 import com.getourhome.agentservice.service.ManagementService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,13 +16,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ManagementController.class)
@@ -42,16 +51,12 @@ class ManagementControllerTest {
     void givenAcceptRegistration_whenValidRequest_thenReturnOk() throws Exception{
         // Given
         UUID uuid = UUID.randomUUID();
-        User mockUser = User
-                .builder()
-                .id(uuid)
-                .build();
-        given(managementService.acceptUser(uuid)).willReturn(mockUser);
+        given(managementService.acceptUser(uuid, null)).willReturn(ManagementService.TransitionResult.UPDATED);
 
         // when & then
         mvc.perform(patch("/admin/registrations/" + uuid + "/accept"))
                 .andExpect(status().isOk());
-        then(managementService).should().acceptUser(uuid);
+        then(managementService).should().acceptUser(uuid, null);
     }
 
     @DisplayName("존재하지 않는 아이디 입력시 공인중개사 가입 요청 에러 발생")
@@ -59,13 +64,27 @@ class ManagementControllerTest {
     void givenAcceptRegistration_whenUserNotFound_thenReturnBadRequest() throws Exception{
         // Given
         UUID uuid = UUID.randomUUID();
-        given(managementService.acceptUser(uuid)).willReturn(null);
+        given(managementService.acceptUser(uuid, null)).willReturn(ManagementService.TransitionResult.NOT_FOUND);
 
 
         // when & then
         mvc.perform(patch("/admin/registrations/" + uuid + "/accept"))
                 .andExpect(status().isBadRequest());
-        then(managementService).should().acceptUser(uuid);
+        then(managementService).should().acceptUser(uuid, null);
+    }
+
+    @DisplayName("이미 처리되었거나 version이 다른 가입 요청 승인시 409 응답")
+    @Test
+    void givenAcceptRegistration_whenVersionChanged_thenReturnConflict() throws Exception{
+        // Given
+        UUID uuid = UUID.randomUUID();
+        given(managementService.acceptUser(uuid, 2L)).willReturn(ManagementService.TransitionResult.CONFLICT);
+
+        // when & then
+        mvc.perform(patch("/admin/registrations/" + uuid + "/accept").param("version", "2"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").exists());
+        then(managementService).should().acceptUser(uuid, 2L);
     }
 
     @DisplayName("공인중개사 가입 요청 거절")
@@ -76,11 +95,8 @@ class ManagementControllerTest {
                 .builder().reason("거부 사유").build();
 
         UUID uuid = UUID.randomUUID();
-        User mockUser = User
-                .builder()
-                .id(uuid)
-                .build();
-        given(managementService.rejectUser(eq(uuid), any(RejectRegistrationRequestDto.class))).willReturn(mockUser);
+        given(managementService.rejectUser(eq(uuid), any(RejectRegistrationRequestDto.class), isNull()))
+                .willReturn(ManagementService.TransitionResult.UPDATED);
 
         // when & then
         mvc.perform(
@@ -89,7 +105,7 @@ class ManagementControllerTest {
                                 .content(objectMapper.writeValueAsString(requestDto))
                 )
                 .andExpect(status().isOk());
-        then(managementService).should().rejectUser(eq(uuid), any(RejectRegistrationRequestDto.class));
+        then(managementService).should().rejectUser(eq(uuid), any(RejectRegistrationRequestDto.class), isNull());
     }
 
     @DisplayName("존재하지 않는 아이디 입력시 공인중개사 거절 요청 에러 발생")
@@ -100,7 +116,8 @@ class ManagementControllerTest {
                 .builder().reason("거부 사유").build();
 
         UUID uuid = UUID.randomUUID();
-        given(managementService.rejectUser(eq(uuid), any(RejectRegistrationRequestDto.class))).willReturn(null);
+        given(managementService.rejectUser(eq(uuid), any(RejectRegistrationRequestDto.class), isNull()))
+                .willReturn(ManagementService.TransitionResult.NOT_FOUND);
 
         // when & then
         mvc.perform(
@@ -109,6 +126,83 @@ class ManagementControllerTest {
                                 .content(objectMapper.writeValueAsString(requestDto))
                 )
                 .andExpect(status().isBadRequest());
-        then(managementService).should().rejectUser(eq(uuid), any(RejectRegistrationRequestDto.class));
+        then(managementService).should().rejectUser(eq(uuid), any(RejectRegistrationRequestDto.class), isNull());
+    }
+
+    @DisplayName("공인중개사 가입 요청 일괄 승인 - id별 처리 결과 반환")
+    @Test
+    void givenDecideRegistrations_whenValidRequest_thenReturnResultPerId() throws Exception{
+        // Given
+        String found = UUID.randomUUID().toString();
+        String missing = UUID.randomUUID().toString();
+        RegistrationDecisionRequestDto request = RegistrationDecisionRequestDto
+                .builder()
+                .agentIds(List.of(found, missing, "not-a-uuid"))
+                .decision(RegistrationDecisionRequestDto.Decision.ACCEPT)
+                .build();
+        given(managementService.decideAll(anyList(), eq(RegistrationDecisionRequestDto.Decision.ACCEPT), isNull()))
+                .willReturn(List.of(
+                        RegistrationDecisionResultDto.builder().agentId(found)
+                                .outcome(RegistrationDecisionResultDto.Outcome.UPDATED).build(),
+                        RegistrationDecisionResultDto.builder().agentId(missing)
+                                .outcome(RegistrationDecisionResultDto.Outcome.NOT_FOUND).build(),
+                        RegistrationDecisionResultDto.builder().agentId("not-a-uuid")
+                                .outcome(RegistrationDecisionResultDto.Outcome.INVALID_ID).build()));
+
+        // when & then
+        mvc.perform(patch("/admin/registrations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.results[1].agent_id").value(missing))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+    }
+
+    @DisplayName("공인중개사 가입 요청 일괄 처리 - 빈 id 목록, 요청 거부")
+    @Test
+    void givenDecideRegistrations_whenEmptyIds_thenReturnBadRequest() throws Exception{
+        // Given
+        RegistrationDecisionRequestDto request = RegistrationDecisionRequestDto
+                .builder()
+                .agentIds(List.of())
+                .decision(RegistrationDecisionRequestDto.Decision.REJECT)
+                .build();
+
+        // when & then
+        mvc.perform(patch("/admin/registrations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        then(managementService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("공인중개사 가입 요청 목록 - 다음 페이지 커서 반환")
+    @Test
+    void givenListRegistrations_whenValidRequest_thenReturnPage() throws Exception{
+        // Given
+        given(managementService.listRegistrations(eq(RegistrationStatus.PENDING), isNull(), isNull(), isNull(), isNull(), eq(20)))
+                .willReturn(RegistrationPageResponseDto.builder()
+                        .items(List.of(RegistrationSummaryDto.builder().userId("tester").build()))
+                        .nextCursor("cursor")
+                        .build());
+
+        // when & then
+        mvc.perform(get("/admin/registrations").param("registration_status", "PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].user_id").value("tester"))
+                .andExpect(jsonPath("$.next_cursor").value("cursor"));
+    }
+
+    @DisplayName("공인중개사 가입 요청 목록 - 잘못된 커서, 요청 거부")
+    @Test
+    void givenListRegistrations_whenInvalidCursor_thenReturnBadRequest() throws Exception{
+        // Given
+        given(managementService.listRegistrations(any(), any(), any(), any(), eq("broken"), eq(20)))
+                .willThrow(new IllegalArgumentException("잘못된 커서입니다."));
+
+        // when & then
+        mvc.perform(get("/admin/registrations").param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+}
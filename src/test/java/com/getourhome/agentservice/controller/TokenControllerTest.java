@@ -0,0 +1,98 @@
+package com.getourhome.agentservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getourhome.agentservice.dto.request.TokenVerifyRequestDto;
+import com.getourhome.agentservice.dto.response.TokenVerificationResultDto;
+import com.getourhome.agentservice.service.TokenVerificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TokenController.class)
+class TokenControllerTest {
+    @MockBean
+    private TokenVerificationService tokenVerificationService;
+
+    private final MockMvc mvc;
+    private final ObjectMapper objectMapper;
+
+    TokenControllerTest(
+            @Autowired MockMvc mvc,
+            @Autowired ObjectMapper objectMapper
+    ) {
+        this.mvc = mvc;
+        this.objectMapper = objectMapper;
+    }
+
+    @DisplayName("JWT 일괄 검증 - 토큰별 검증 결과 반환")
+    @Test
+    void givenTokens_whenVerifyTokens_thenReturnResultPerToken() throws Exception {
+        // Given
+        TokenVerifyRequestDto requestDto = TokenVerifyRequestDto
+                .builder()
+                .tokens(List.of("token1", "token2"))
+                .build();
+        given(tokenVerificationService.verifyAll(anyList())).willReturn(List.of(
+                TokenVerificationResultDto.builder().valid(true).role("AGENT").build(),
+                TokenVerificationResultDto.invalid("MALFORMED")));
+
+        // When & Then
+        mvc.perform(post("/tokens/verify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].valid").value(true))
+                .andExpect(jsonPath("$.results[1].valid").value(false))
+                .andExpect(jsonPath("$.results[1].error").value("MALFORMED"));
+    }
+
+    @DisplayName("JWT 일괄 검증 - 빈 토큰 목록, 요청 거부")
+    @Test
+    void givenEmptyTokens_whenVerifyTokens_thenReturnBadRequest() throws Exception {
+        // Given
+        TokenVerifyRequestDto requestDto = TokenVerifyRequestDto
+                .builder()
+                .tokens(List.of())
+                .build();
+
+        // When & Then
+        mvc.perform(post("/tokens/verify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isBadRequest());
+        then(tokenVerificationService).should(never()).verifyAll(anyList());
+    }
+
+    @DisplayName("JWT 일괄 검증 - 최대 개수 초과, 요청 거부")
+    @Test
+    void givenTooManyTokens_whenVerifyTokens_thenReturnBadRequest() throws Exception {
+        // Given
+        TokenVerifyRequestDto requestDto = TokenVerifyRequestDto
+                .builder()
+                .tokens(Collections.nCopies(TokenController.MAX_BATCH_SIZE + 1, "token"))
+                .build();
+
+        // When & Then
+        mvc.perform(post("/tokens/verify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isBadRequest());
+        then(tokenVerificationService).should(never()).verifyAll(anyList());
+    }
+}
@@ -0,0 +1,108 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.entity.User;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ddl-auto update로 만들어진 기존 스키마(created_at, version, decided_at 컬럼과 등록번호 unique 제약이 없는 Users)에
+ * 행이 남아 있는 상태에서 baseline-on-migrate로 마이그레이션이 적용되는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=0",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class LegacySchemaMigrationTest {
+    private static final UUID LEGACY_ID = UUID.randomUUID();
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DisplayName("기존 스키마에 마이그레이션 적용 후 누락 컬럼 추가, created_at을 통계 보관 기간 밖 고정 시각으로 보정, 엔티티 매핑 검증 통과")
+    @Test
+    void givenLegacySchema_whenMigrate_thenColumnsAddedAndBackfilled() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(Arrays.stream(applied).map(MigrationInfo::getVersion).map(String::valueOf))
+                .containsExactly("0", "1", "2", "3", "4");
+        User legacy = userRepository.findById(LEGACY_ID).orElseThrow();
+        assertThat(legacy.getCreatedAt()).isEqualTo(Instant.EPOCH);
+        assertThat(legacy.getDecidedAt()).isNull();
+        assertThat(legacy.getRegistrationStatus()).isEqualTo(RegistrationStatus.ACCEPTED);
+    }
+
+    @DisplayName("기존 스키마에 등록번호 unique 인덱스가 추가되어 엔티티에 선언한 이름으로 위반")
+    @Test
+    void givenLegacySchema_whenDuplicateRegistrationNumber_thenViolatesNamedIndex() {
+        User duplicate = User.builder()
+                .userId("tester")
+                .username("김테스트")
+                .phoneNumber("01012341234")
+                .agencyName("테스트 공인중개사")
+                .registrationNumber("11111-0000-1111")
+                .password("encoded")
+                .email("tester@test.com")
+                .registrationStatus(RegistrationStatus.PENDING)
+                .build();
+
+        assertThatThrownBy(() -> userRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .message().containsIgnoringCase(User.UK_REGISTRATION_NUMBER);
+    }
+
+    @TestConfiguration
+    static class LegacySchemaConfig {
+        /**
+         * Flyway 적용 전에 기존 ddl-auto update 스키마와 행을 만들어 둡니다.
+         */
+        @Bean
+        FlywayMigrationStrategy legacySchemaMigrationStrategy() {
+            return flyway -> {
+                JdbcTemplate jdbcTemplate = new JdbcTemplate(flyway.getConfiguration().getDataSource());
+                jdbcTemplate.execute("""
+                        create table Users (
+                            id uuid not null,
+                            user_id varchar(255) not null unique,
+                            username varchar(255) not null,
+                            agency_name varchar(255) not null,
+                            phone_number varchar(255) not null,
+                            registration_number varchar(255) not null,
+                            password varchar(255) not null,
+                            email varchar(255) not null unique,
+                            registration_status smallint not null check (registration_status between 0 and 2),
+                            reject_reason varchar(255),
+                            primary key (id)
+                        )""");
+                jdbcTemplate.update("""
+                                insert into Users (id, user_id, username, agency_name, phone_number,
+                                    registration_number, password, email, registration_status)
+                                values (?, 'legacy', '김기존', '기존 공인중개사', '01000000000',
+                                    '11111-0000-1111', 'encoded', 'legacy@test.com', 1)""",
+                        LEGACY_ID);
+                flyway.migrate();
+            };
+        }
+    }
+}
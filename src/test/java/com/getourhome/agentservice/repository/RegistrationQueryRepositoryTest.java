@@ -0,0 +1,106 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.dto.response.RegistrationSummaryDto;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class RegistrationQueryRepositoryTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            userRepository.save(user("pending" + i, "테스트 공인중개사", RegistrationStatus.PENDING));
+        }
+        userRepository.save(user("accepted", "테스트 공인중개사", RegistrationStatus.ACCEPTED));
+        userRepository.save(user("other", "다른_공인중개사", RegistrationStatus.PENDING));
+        userRepository.flush();
+    }
+
+    @DisplayName("keyset 페이지네이션 - 페이지를 이어 읽으면 중복, 누락 없이 전체 조회")
+    @Test
+    void givenPendingRegistrations_whenReadPages_thenEveryRowOnce() {
+        List<String> userIds = new ArrayList<>();
+        RegistrationSummaryDto last = null;
+        while (true) {
+            List<RegistrationSummaryDto> page = userRepository.findRegistrationPage(
+                    RegistrationStatus.PENDING, null, null, null,
+                    last == null ? null : last.getCreatedAt(),
+                    last == null ? null : last.getId(),
+                    2);
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(row -> userIds.add(row.getUserId()));
+            last = page.get(page.size() - 1);
+        }
+
+        assertThat(userIds).hasSize(6).doesNotHaveDuplicates().doesNotContain("accepted");
+    }
+
+    @DisplayName("상호명 필터 - 전체 일치만 조회하고 앞부분, LIKE 특수문자는 일치하지 않음")
+    @Test
+    void givenAgencyName_whenFindRegistrationPage_thenExactMatchOnly() {
+        List<RegistrationSummaryDto> exact = userRepository.findRegistrationPage(
+                null, "다른_공인중개사", null, null, null, null, 10);
+        List<RegistrationSummaryDto> prefix = userRepository.findRegistrationPage(
+                null, "다른", null, null, null, null, 10);
+        List<RegistrationSummaryDto> wildcard = userRepository.findRegistrationPage(
+                null, "다른%", null, null, null, null, 10);
+
+        assertThat(exact).extracting(RegistrationSummaryDto::getUserId).containsExactly("other");
+        assertThat(prefix).isEmpty();
+        assertThat(wildcard).isEmpty();
+    }
+
+    @DisplayName("상호명 필터 keyset 페이지네이션 - 같은 상호명의 행을 (created_at, id) 순서로 중복, 누락 없이 조회")
+    @Test
+    void givenAgencyName_whenReadPages_thenOrderedByCreatedAtAndId() {
+        List<RegistrationSummaryDto> rows = new ArrayList<>();
+        RegistrationSummaryDto last = null;
+        while (true) {
+            List<RegistrationSummaryDto> page = userRepository.findRegistrationPage(
+                    null, "테스트 공인중개사", null, null,
+                    last == null ? null : last.getCreatedAt(),
+                    last == null ? null : last.getId(),
+                    2);
+            if (page.isEmpty()) {
+                break;
+            }
+            rows.addAll(page);
+            last = page.get(page.size() - 1);
+        }
+
+        assertThat(rows).hasSize(6)
+                .extracting(RegistrationSummaryDto::getUserId).doesNotHaveDuplicates().doesNotContain("other");
+        assertThat(rows).isSortedAccordingTo(Comparator
+                .comparing(RegistrationSummaryDto::getCreatedAt)
+                .thenComparing(RegistrationSummaryDto::getId));
+    }
+
+    private static User user(String userId, String agencyName, RegistrationStatus registrationStatus) {
+        return User.builder()
+                .userId(userId)
+                .username("김테스트")
+                .phoneNumber("01012341234")
+                .registrationNumber("reg-" + userId)
+                .agencyName(agencyName)
+                .password("encoded")
+                .email(userId + "@test.com")
+                .registrationStatus(registrationStatus)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.getourhome.agentservice.repository;
+
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.entity.User;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * db/migration 스크립트로 만든 스키마가 엔티티 매핑과 일치하는지 ddl-auto validate로 확인합니다.
+ * 엔티티를 바꾸고 마이그레이션을 추가하지 않으면 컨텍스트 로딩이 실패합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaMigrationTest {
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DisplayName("마이그레이션 적용 후 엔티티 매핑 검증 통과")
+    @Test
+    void givenMigrations_whenContextLoads_thenAllApplied() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(Arrays.stream(applied).map(MigrationInfo::getScript))
+                .containsExactly(
+                        "V1__create_users.sql",
+                        "V2__create_token_tables.sql",
+                        "V3__create_outbox_events.sql",
+                        "V4__create_registration_stats.sql");
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @DisplayName("마이그레이션의 unique 제약 이름이 엔티티에 선언한 이름과 일치")
+    @Test
+    void givenDuplicateUserId_whenSave_thenViolatesNamedConstraint() {
+        userRepository.saveAndFlush(user("tester", "tester@test.com", "11111-0000-1111"));
+
+        assertThatThrownBy(() -> userRepository.saveAndFlush(user("tester", "other@test.com", "22222-0000-2222")))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .message().containsIgnoringCase(User.UK_USER_ID);
+    }
+
+    private static User user(String userId, String email, String registrationNumber) {
+        return User.builder()
+                .userId(userId)
+                .username("김테스트")
+                .phoneNumber("01012341234")
+                .agencyName("테스트 공인중개사")
+                .registrationNumber(registrationNumber)
+                .password("encoded")
+                .email(email)
+                .registrationStatus(RegistrationStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.repository.AgentAccount;
+import com.getourhome.agentservice.repository.UserRepository;
+import com.getourhome.agentservice.util.ReplicaReads;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+class AgentCacheTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RecordingChannel channel = new RecordingChannel();
+    private final AgentCache agentCache = new AgentCache(
+            userRepository, channel, new ReplicaReads(mock(PlatformTransactionManager.class)),
+            100, Duration.ofMinutes(5), Duration.ofSeconds(5), Runnable::run);
+
+    @DisplayName("user_id 조회 결과는 id 캐시에도 저장되어 이후 조회는 DB를 거치지 않음")
+    @Test
+    void givenCachedUserId_whenFindAgain_thenNoRepositoryCall() {
+        AgentAccount credentials = credentials(UUID.randomUUID(), RegistrationStatus.ACCEPTED);
+        when(userRepository.findCredentialsByUserId("tester")).thenReturn(Optional.of(credentials));
+
+        Optional<AgentAccount> first = agentCache.findByUserId("tester");
+        Optional<AgentAccount> second = agentCache.findByUserId("tester");
+        Optional<AgentAccount> byId = agentCache.findById(credentials.id());
+
+        assertThat(first).isPresent();
+        assertThat(second).contains(first.get());
+        assertThat(byId).contains(first.get());
+        then(userRepository).should(times(1)).findCredentialsByUserId("tester");
+        then(userRepository).should(times(0)).findCredentialsById(credentials.id());
+    }
+
+    @DisplayName("존재하지 않는 user_id는 캐시하지 않음")
+    @Test
+    void givenUnknownUserId_whenFind_thenNotCached() {
+        when(userRepository.findCredentialsByUserId("nobody")).thenReturn(Optional.empty());
+
+        assertThat(agentCache.findByUserId("nobody")).isEmpty();
+        assertThat(agentCache.findByUserId("nobody")).isEmpty();
+
+        then(userRepository).should(times(2)).findCredentialsByUserId("nobody");
+    }
+
+    @DisplayName("상태 전환 이벤트 수신시 id 항목을 무효화하고 다른 인스턴스에 전파")
+    @Test
+    void givenRegistrationEvent_whenFindById_thenReloaded() {
+        UUID id = UUID.randomUUID();
+        when(userRepository.findCredentialsById(id)).thenReturn(
+                Optional.of(credentials(id, RegistrationStatus.PENDING)),
+                Optional.of(credentials(id, RegistrationStatus.ACCEPTED)));
+        assertThat(agentCache.findById(id))
+                .map(AgentAccount::registrationStatus)
+                .contains(RegistrationStatus.PENDING);
+
+        agentCache.onRegistrationEvent(new RegistrationEvent(id, RegistrationStatus.ACCEPTED));
+
+        assertThat(agentCache.findById(id))
+                .map(AgentAccount::registrationStatus)
+                .contains(RegistrationStatus.ACCEPTED);
+        assertThat(channel.published).containsExactly(id);
+    }
+
+    @DisplayName("다른 인스턴스에서 전파된 무효화는 다시 전파하지 않고 로컬 항목만 제거")
+    @Test
+    void givenRemoteInvalidation_whenReceived_thenEvictLocally() {
+        UUID id = UUID.randomUUID();
+        when(userRepository.findCredentialsById(id)).thenReturn(Optional.of(credentials(id, RegistrationStatus.ACCEPTED)));
+        agentCache.findById(id);
+
+        channel.listener.accept(id);
+        agentCache.findById(id);
+
+        then(userRepository).should(times(2)).findCredentialsById(id);
+        assertThat(channel.published).isEmpty();
+    }
+
+    @DisplayName("user_id 조회 도중 무효화되면 읽은 레코드를 id 캐시에 넣지 않음")
+    @Test
+    void givenEvictionDuringUserIdLoad_whenFindById_thenReloaded() {
+        UUID id = UUID.randomUUID();
+        when(userRepository.findCredentialsByUserId("tester")).thenAnswer(invocation -> {
+            // 조회가 끝나기 전에 관리자가 승인한 경우
+            agentCache.evict(id);
+            return Optional.of(credentials(id, RegistrationStatus.PENDING));
+        });
+        when(userRepository.findCredentialsById(id)).thenReturn(Optional.of(credentials(id, RegistrationStatus.ACCEPTED)));
+
+        agentCache.findByUserId("tester");
+
+        assertThat(agentCache.findById(id))
+                .map(AgentAccount::registrationStatus)
+                .contains(RegistrationStatus.ACCEPTED);
+    }
+
+    @DisplayName("가상 스레드 모드에서 같은 id의 동시 miss는 한 번만 조회")
+    @Test
+    void givenVirtualThreadLoader_whenConcurrentMisses_thenLoadOnce() throws Exception {
+        UUID id = UUID.randomUUID();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findCredentialsById(id)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(credentials(id, RegistrationStatus.ACCEPTED));
+        });
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            AgentCache virtualCache = new AgentCache(
+                    userRepository, channel, new ReplicaReads(mock(PlatformTransactionManager.class)),
+                    100, Duration.ofMinutes(5), Duration.ofSeconds(5), executor);
+            List<Future<Optional<AgentAccount>>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> virtualCache.findById(id)));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+
+            for (Future<Optional<AgentAccount>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).map(AgentAccount::id).contains(id);
+            }
+        }
+        then(userRepository).should(times(1)).findCredentialsById(id);
+    }
+
+    private static AgentAccount credentials(UUID id, RegistrationStatus status) {
+        return new AgentAccount(id, "tester", "테스트 공인중개사", "hash", status);
+    }
+
+    private static final class RecordingChannel implements AgentInvalidationChannel {
+        private final List<UUID> published = new ArrayList<>();
+        private Consumer<UUID> listener;
+
+        @Override
+        public void publish(UUID agentId) {
+            published.add(agentId);
+        }
+
+        @Override
+        public void subscribe(Consumer<UUID> listener) {
+            this.listener = listener;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.getourhome.agentservice.service;
 import com.getourhome.agentservice.dto.request.LoginRequestDto;
 import com.getourhome.agentservice.dto.request.UserRegisterDto;
 import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.repository.AgentAccount;
 import com.getourhome.agentservice.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,12 +11,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest(properties = {
         "security.jwt.token.secret-key=mySecretKeymySecretKeymySecretKeymySecretKeymySecretKey",
@@ -32,9 +36,13 @@ class AuthServiceTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private AgentCache agentCache;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll(); // 테스트 실행 전 데이터베이스 정리
+        agentCache.evictAll();
     }
 
     @DisplayName("사용자 회원가입 성공시 DB 정상 반영 테스트")
@@ -69,6 +77,102 @@ class AuthServiceTest {
         assertThat(user.getEmail()).isEqualTo("tester@test.com");
     }
 
+    @DisplayName("사용자 회원가입시 중복 아이디, 저장하지 않고 중복 결과 반환")
+    @Test
+    void givenDuplicateUserId_whenRegisterUser_thenReturnDuplicate() {
+        // Given
+        UserRegisterDto first = UserRegisterDto
+                .newBuilder()
+                .userId("tester")
+                .username("김테스트")
+                .phoneNumber("01012341234")
+                .agencyName("테스트 공인중개사")
+                .registrationNumber("11111-0000-1111")
+                .password("tester1234")
+                .email("tester@test.com")
+                .build();
+        UserRegisterDto duplicate = UserRegisterDto
+                .newBuilder()
+                .userId("tester")
+                .username("김테스트2")
+                .phoneNumber("01011111111")
+                .agencyName("테스트 공인중개사")
+                .registrationNumber("22222-0000-2222")
+                .password("tester1234")
+                .email("tester2@test.com")
+                .build();
+
+        // When
+        AuthService.RegistrationResult firstResult = authService.registerUser(first);
+        AuthService.RegistrationResult duplicateResult = authService.registerUser(duplicate);
+
+        // Then
+        assertThat(firstResult).isEqualTo(AuthService.RegistrationResult.REGISTERED);
+        assertThat(duplicateResult).isEqualTo(AuthService.RegistrationResult.DUPLICATE_USER_ID);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("사용자 회원가입시 중복 등록번호, 저장하지 않고 중복 결과 반환")
+    @Test
+    void givenDuplicateRegistrationNumber_whenRegisterUser_thenReturnDuplicate() {
+        // Given
+        authService.registerUser(UserRegisterDto
+                .newBuilder()
+                .userId("tester")
+                .username("김테스트")
+                .phoneNumber("01012341234")
+                .agencyName("테스트 공인중개사")
+                .registrationNumber("11111-0000-1111")
+                .password("tester1234")
+                .email("tester@test.com")
+                .build());
+        UserRegisterDto duplicate = UserRegisterDto
+                .newBuilder()
+                .userId("tester2")
+                .username("김테스트2")
+                .phoneNumber("01011111111")
+                .agencyName("테스트 공인중개사")
+                .registrationNumber("11111-0000-1111")
+                .password("tester1234")
+                .email("tester2@test.com")
+                .build();
+
+        // When
+        AuthService.RegistrationResult result = authService.registerUser(duplicate);
+
+        // Then
+        assertThat(result).isEqualTo(AuthService.RegistrationResult.DUPLICATE_REGISTRATION_NUMBER);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("공인중개사 등록번호 unique 제약, 중복 저장시 예외")
+    @Test
+    void givenDuplicateRegistrationNumber_whenSaveAndFlush_thenDataIntegrityViolation() {
+        // Given
+        userRepository.saveAndFlush(User.builder()
+                .userId("tester")
+                .username("김테스트")
+                .phoneNumber("01012341234")
+                .agencyName("테스트 공인중개사")
+                .registrationNumber("11111-0000-1111")
+                .password("encoded")
+                .email("tester@test.com")
+                .build());
+        User duplicate = User.builder()
+                .userId("tester2")
+                .username("김테스트2")
+                .phoneNumber("01011111111")
+                .agencyName("테스트 공인중개사")
+                .registrationNumber("11111-0000-1111")
+                .password("encoded")
+                .email("tester2@test.com")
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> userRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     @DisplayName("사용자 로그인 정상 응답 테스트")
     @Test
     void givenValidCredentials_whenLoginUser_thenReturnUser() {
@@ -92,11 +196,11 @@ class AuthServiceTest {
                 .build();
 
         // When
-        User loggedInUser = authService.login(loginRequestDto);
+        AgentAccount loggedInUser = authService.login(loginRequestDto);
 
         // Then
         assertThat(loggedInUser).isNotNull();
-        assertThat(loggedInUser.getUserId()).isEqualTo("tester");
+        assertThat(loggedInUser.userId()).isEqualTo("tester");
     }
 
     @DisplayName("사용자 로그인시 잘못된 비밀번호, 로그인 불가")
@@ -122,7 +226,7 @@ class AuthServiceTest {
                 .build();
 
         // When
-        User loggedInUser = authService.login(loginRequestDto);
+        AgentAccount loggedInUser = authService.login(loginRequestDto);
 
         // Then
         assertThat(loggedInUser).isNull();
@@ -151,9 +255,43 @@ class AuthServiceTest {
                 .build();
 
         // When
-        User loggedInUser = authService.login(loginRequestDto);
+        AgentAccount loggedInUser = authService.login(loginRequestDto);
 
         // Then
         assertThat(loggedInUser).isNull();
     }
-}
\ No newline at end of file
+
+    @DisplayName("사용자 로그인시 현재 cost 정책과 다른 해시는 다시 해싱")
+    @Test
+    void givenOutdatedPasswordHash_whenLoginUser_thenPasswordRehashed() {
+        // Given
+        String outdatedHash = new BCryptPasswordEncoder(4).encode("tester1234");
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .userId("tester")
+                .username("김테스트")
+                .phoneNumber("01012341234")
+                .registrationNumber("11111-0000-1111")
+                .agencyName("테스트 공인중개사")
+                .password(outdatedHash)
+                .email("tester@test.com")
+                .build();
+        userRepository.save(user);
+
+        LoginRequestDto loginRequestDto = LoginRequestDto
+                .builder()
+                .userId("tester")
+                .password("tester1234")
+                .build();
+
+        // When
+        AgentAccount loggedInUser = authService.login(loginRequestDto);
+
+        // Then
+        assertThat(loggedInUser).isNotNull();
+        String storedHash = userRepository.findByUserId("tester").orElseThrow().getPassword();
+        assertThat(storedHash).isNotEqualTo(outdatedHash);
+        assertThat(passwordEncoder.upgradeEncoding(storedHash)).isFalse();
+        assertThat(passwordEncoder.matches("tester1234", storedHash)).isTrue();
+    }
+}
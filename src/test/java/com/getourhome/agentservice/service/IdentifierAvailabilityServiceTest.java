@@ -0,0 +1,79 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.repository.UserIdentifiers;
+import com.getourhome.agentservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class IdentifierAvailabilityServiceTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private IdentifierAvailabilityService identifierAvailabilityService;
+
+    @BeforeEach
+    void setUp() {
+        given(userRepository.findAllIdentifiers()).willReturn(List.of(
+                identifiers("tester", "tester@test.com", "11111-0000-1111")));
+        identifierAvailabilityService = new IdentifierAvailabilityService(userRepository, 1000);
+        identifierAvailabilityService.loadAll();
+    }
+
+    @DisplayName("사용 중이 아닌 식별자는 DB 조회 없이 사용 가능")
+    @Test
+    void givenUnusedIdentifiers_whenCheckAvailability_thenAvailableWithoutDatabase() {
+        assertThat(identifierAvailabilityService.isUserIdAvailable("newcomer")).isTrue();
+        assertThat(identifierAvailabilityService.isEmailAvailable("newcomer@test.com")).isTrue();
+        assertThat(identifierAvailabilityService.isRegistrationNumberAvailable("99999-0000-9999")).isTrue();
+
+        then(userRepository).should(never()).existsByUserId(anyString());
+        then(userRepository).should(never()).existsByEmail(anyString());
+        then(userRepository).should(never()).existsByRegistrationNumber(anyString());
+    }
+
+    @DisplayName("filter 양성이면 DB로 확인")
+    @Test
+    void givenUsedUserId_whenCheckAvailability_thenConfirmedByDatabase() {
+        given(userRepository.existsByUserId("tester")).willReturn(true);
+
+        assertThat(identifierAvailabilityService.isUserIdAvailable("tester")).isFalse();
+        then(userRepository).should().existsByUserId("tester");
+    }
+
+    @DisplayName("가입한 사용자는 재구성 전에도 filter에 반영")
+    @Test
+    void givenRegisteredUser_whenCheckAvailability_thenConfirmedByDatabase() {
+        identifierAvailabilityService.register("newcomer", "newcomer@test.com", "22222-0000-2222");
+        given(userRepository.existsByEmail("newcomer@test.com")).willReturn(true);
+
+        assertThat(identifierAvailabilityService.isEmailAvailable("newcomer@test.com")).isFalse();
+        then(userRepository).should().existsByEmail("newcomer@test.com");
+    }
+
+    private static UserIdentifiers identifiers(String userId, String email, String registrationNumber) {
+        return new UserIdentifiers() {
+            @Override
+            public String getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getRegistrationNumber() {
+                return registrationNumber;
+            }
+        };
+    }
+}
@@ -1,8 +1,11 @@
 package com.getourhome.agentservice.service;
 
+import com.getourhome.agentservice.dto.request.RegistrationDecisionRequestDto;
 import com.getourhome.agentservice.dto.request.RejectRegistrationRequestDto;
+import com.getourhome.agentservice.dto.response.RegistrationDecisionResultDto;
+import com.getourhome.agentservice.entity.OutboxEvent;
 import com.getourhome.agentservice.entity.RegistrationStatus;
-import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.repository.OutboxEventRepository;
 import com.getourhome.agentservice.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,12 +15,19 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @SpringBootTest(properties = {
         "security.jwt.token.secret-key=mySecretKeymySecretKeymySecretKeymySecretKeymySecretKey",
@@ -31,83 +41,130 @@ class ManagementServiceTest {
     @MockBean
     private UserRepository userRepository;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
+        outboxEventRepository.deleteAll();
     }
 
-    @DisplayName("사용자 가입 요청 승인 성공시 DB 정상 반영 테스트")
+    @DisplayName("사용자 가입 요청 승인시 조회 없이 조건부 UPDATE 한 번으로 반영")
     @Test
-    void givenAcceptUser_whenValidUuid_thenReturnUpdatedUser() {
+    void givenAcceptUser_whenPending_thenUpdateWithoutRead() {
         // Given
         UUID uuid = UUID.randomUUID();
-        User mockUser = User.builder()
-                .id(uuid)
-                .registrationStatus(RegistrationStatus.PENDING)
-                .build();
-        given(userRepository.findById(uuid)).willReturn(Optional.of(mockUser));
-        given(userRepository.save(any(User.class))).willReturn(mockUser);
+        given(userRepository.transitionRegistrationStatus(
+                eq(uuid), eq(RegistrationStatus.PENDING), eq(RegistrationStatus.ACCEPTED), isNull(), any(Instant.class)))
+                .willReturn(1);
 
         // When
-        managementService.acceptUser(uuid);
+        ManagementService.TransitionResult result = managementService.acceptUser(uuid, null);
 
         // Then
-        Optional<User> userOptional = userRepository.findById(uuid);
-        assertThat(userOptional).isPresent();
-        User user = userOptional.get();
-        assertThat(user.getRegistrationStatus()).isEqualTo(RegistrationStatus.ACCEPTED);
+        assertThat(result).isEqualTo(ManagementService.TransitionResult.UPDATED);
+        then(userRepository).should(never()).findById(uuid);
+        then(userRepository).should(never()).existsById(uuid);
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAggregateId, OutboxEvent::getEventType)
+                .containsExactly(tuple(uuid, OutboxEvent.REGISTRATION_ACCEPTED));
     }
 
-    @DisplayName("존재하지 않는 사용자 uuid accept 요청시 null 응답")
+    @DisplayName("존재하지 않는 사용자 uuid accept 요청시 NOT_FOUND 응답")
     @Test
-    void givenAcceptUser_whenInvalidUuid_thenReturnNull() {
+    void givenAcceptUser_whenInvalidUuid_thenReturnNotFound() {
         // Given
         UUID uuid = UUID.randomUUID();
+        given(userRepository.existsById(uuid)).willReturn(false);
 
         // When
-        User user = managementService.acceptUser(uuid);
+        ManagementService.TransitionResult result = managementService.acceptUser(uuid, null);
 
         // Then
-        assertThat(user).isNull();
+        assertThat(result).isEqualTo(ManagementService.TransitionResult.NOT_FOUND);
+        assertThat(outboxEventRepository.count()).isZero();
     }
 
-    @DisplayName("사용자 가입 요청 거부 성공시 DB 정상 반영 테스트")
+    @DisplayName("이미 처리되었거나 version이 다른 가입 요청 accept시 CONFLICT 응답")
     @Test
-    void givenRejectUser_whenValidUuid_thenReturnUpdatedUser() {
+    void givenAcceptUser_whenVersionChanged_thenReturnConflict() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        given(userRepository.transitionRegistrationStatus(
+                eq(uuid), eq(RegistrationStatus.PENDING), eq(RegistrationStatus.ACCEPTED), isNull(), any(Instant.class),
+                eq(3L))).willReturn(0);
+        given(userRepository.existsById(uuid)).willReturn(true);
+
+        // When
+        ManagementService.TransitionResult result = managementService.acceptUser(uuid, 3L);
+
+        // Then
+        assertThat(result).isEqualTo(ManagementService.TransitionResult.CONFLICT);
+    }
+
+    @DisplayName("사용자 가입 요청 거부시 거부 사유와 함께 조건부 UPDATE")
+    @Test
+    void givenRejectUser_whenPending_thenUpdateWithReason() {
         // Given
         UUID uuid = UUID.randomUUID();
-        User mockUser = User.builder()
-                .id(uuid)
-                .registrationStatus(RegistrationStatus.PENDING)
-                .build();
         RejectRegistrationRequestDto requestDto = RejectRegistrationRequestDto
                 .builder().reason("거부 사유").build();
-        given(userRepository.findById(uuid)).willReturn(Optional.of(mockUser));
-        given(userRepository.save(any(User.class))).willReturn(mockUser);
+        given(userRepository.transitionRegistrationStatus(
+                eq(uuid), eq(RegistrationStatus.PENDING), eq(RegistrationStatus.REJECTED), eq("거부 사유"),
+                any(Instant.class))).willReturn(1);
 
         // When
-        managementService.rejectUser(uuid, requestDto);
+        ManagementService.TransitionResult result = managementService.rejectUser(uuid, requestDto, null);
 
         // Then
-        Optional<User> userOptional = userRepository.findById(uuid);
-        assertThat(userOptional).isPresent();
-        User user = userOptional.get();
-        assertThat(user.getRegistrationStatus()).isEqualTo(RegistrationStatus.REJECTED);
-        assertThat(user.getRejectReason()).isEqualTo(requestDto.getReason());
+        assertThat(result).isEqualTo(ManagementService.TransitionResult.UPDATED);
     }
 
-    @DisplayName("존재하지 않는 사용자 uuid reject 요청시 null 응답")
+    @DisplayName("존재하지 않는 사용자 uuid reject 요청시 NOT_FOUND 응답")
     @Test
-    void givenRejectUser_whenInvalidUuid_thenReturnNull() {
+    void givenRejectUser_whenInvalidUuid_thenReturnNotFound() {
         // Given
         UUID uuid = UUID.randomUUID();
         RejectRegistrationRequestDto requestDto = RejectRegistrationRequestDto
                 .builder().reason("거부 사유").build();
 
         // When
-        User user = managementService.rejectUser(uuid, requestDto);
+        ManagementService.TransitionResult result = managementService.rejectUser(uuid, requestDto, null);
+
+        // Then
+        assertThat(result).isEqualTo(ManagementService.TransitionResult.NOT_FOUND);
+    }
+
+    @DisplayName("가입 요청 일괄 거부시 승인 대기 id만 한 번에 UPDATE, 요청 순서대로 결과 반환")
+    @Test
+    void givenDecideAll_whenMixedIds_thenUpdatePendingOnly() {
+        // Given
+        UUID found = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        UUID decided = UUID.randomUUID();
+        given(userRepository.lockIdsByRegistrationStatus(anyCollection(), eq(RegistrationStatus.PENDING)))
+                .willReturn(List.of(found));
+        given(userRepository.transitionRegistrationStatus(
+                anyCollection(), eq(RegistrationStatus.PENDING), eq(RegistrationStatus.REJECTED), eq("거부 사유"),
+                any(Instant.class)))
+                .willReturn(1);
+        given(userRepository.findExistingIds(anyCollection())).willReturn(List.of(decided));
+
+        // When
+        List<RegistrationDecisionResultDto> results = managementService.decideAll(
+                List.of(missing.toString(), "not-a-uuid", found.toString(), decided.toString()),
+                RegistrationDecisionRequestDto.Decision.REJECT,
+                "거부 사유");
 
         // Then
-        assertThat(user).isNull();
+        assertThat(results).extracting(RegistrationDecisionResultDto::getOutcome).containsExactly(
+                RegistrationDecisionResultDto.Outcome.NOT_FOUND,
+                RegistrationDecisionResultDto.Outcome.INVALID_ID,
+                RegistrationDecisionResultDto.Outcome.UPDATED,
+                RegistrationDecisionResultDto.Outcome.CONFLICT);
+        then(userRepository).should().transitionRegistrationStatus(
+                eq(List.of(found)), eq(RegistrationStatus.PENDING), eq(RegistrationStatus.REJECTED), eq("거부 사유"),
+                any(Instant.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.entity.OutboxEvent;
+import com.getourhome.agentservice.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// relay가 직접 트랜잭션을 열고 커밋하는 동작을 확인하므로 테스트 트랜잭션을 사용하지 않습니다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final RecordingSink sink = new RecordingSink();
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @DisplayName("미전달 이벤트를 batch 단위로 id 순서대로 전달하고 published 처리")
+    @Test
+    void givenPendingEvents_whenRelay_thenPublishInOrder() {
+        List<Long> ids = saveEvents(5);
+
+        relay(2).relay();
+
+        assertThat(sink.batches).hasSize(3);
+        assertThat(sink.batches.stream().flatMap(List::stream).map(OutboxMessage::id).toList())
+                .containsExactlyElementsOf(ids);
+        assertThat(outboxEventRepository.findAll()).allSatisfy(event ->
+                assertThat(event.getPublishedAt()).isEqualTo(NOW));
+    }
+
+    @DisplayName("이미 전달한 이벤트는 다시 전달하지 않음")
+    @Test
+    void givenPublishedEvents_whenRelayAgain_thenNothingPublished() {
+        saveEvents(2);
+        OutboxRelay relay = relay(10);
+        relay.relay();
+        sink.batches.clear();
+
+        relay.relay();
+
+        assertThat(sink.batches).isEmpty();
+    }
+
+    @DisplayName("sink 실패시 attempts 증가, backoff가 지나야 재시도")
+    @Test
+    void givenSinkFailure_whenRelay_thenRetryAfterBackoff() {
+        saveEvents(1);
+        OutboxRelay relay = relay(10);
+        sink.failing = true;
+
+        relay.relay();
+
+        OutboxEvent failed = outboxEventRepository.findAll().get(0);
+        assertThat(failed.getPublishedAt()).isNull();
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(1));
+        assertThat(failed.getLastError()).contains("broker unavailable");
+
+        sink.failing = false;
+        relay.relay();
+        assertThat(sink.batches).isEmpty();
+
+        clock.advance(Duration.ofSeconds(1));
+        relay.relay();
+        assertThat(sink.batches).hasSize(1);
+        assertThat(outboxEventRepository.findAll().get(0).getPublishedAt()).isNotNull();
+    }
+
+    @DisplayName("재시도 간격은 지수적으로 늘어나고 최대값을 넘지 않음")
+    @Test
+    void givenAttempts_whenBackoff_thenExponentialAndCapped() {
+        OutboxRelay relay = relay(10);
+
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.backoff(3)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(relay.backoff(40)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private OutboxRelay relay(int batchSize) {
+        return new OutboxRelay(outboxEventRepository, sink, transactionManager, batchSize, 10,
+                Duration.ofSeconds(1), Duration.ofMinutes(5), Duration.ofDays(7), clock);
+    }
+
+    private List<Long> saveEvents(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(outboxEventRepository.save(OutboxEvent.builder()
+                    .aggregateId(UUID.randomUUID())
+                    .eventType(OutboxEvent.REGISTRATION_ACCEPTED)
+                    .payload("{}")
+                    .createdAt(NOW)
+                    .nextAttemptAt(NOW)
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    private static final class RecordingSink implements OutboxSink {
+        private final List<List<OutboxMessage>> batches = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void publish(List<OutboxMessage> messages) throws IOException {
+            if (failing) {
+                throw new IOException("broker unavailable");
+            }
+            batches.add(messages);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
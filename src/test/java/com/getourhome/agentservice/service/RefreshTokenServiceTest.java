@@ -0,0 +1,115 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.repository.RefreshTokenRepository;
+import com.getourhome.agentservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "security.jwt.token.secret-key=mySecretKeymySecretKeymySecretKeymySecretKeymySecretKey",
+        "security.jwt.token.expire-length=3600000"
+})
+class RefreshTokenServiceTest {
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AgentCache agentCache;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        agentCache.evictAll();
+    }
+
+    @DisplayName("refresh token은 해시로만 저장")
+    @Test
+    void givenAcceptedUser_whenIssue_thenOnlyHashStored() {
+        // Given
+        User user = saveUser(RegistrationStatus.ACCEPTED);
+
+        // When
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        // Then
+        assertThat(refreshTokenRepository.findAll())
+                .singleElement()
+                .satisfies(stored -> {
+                    assertThat(stored.getTokenHash()).hasSize(64).isNotEqualTo(refreshToken);
+                    assertThat(stored.getAgentId()).isEqualTo(user.getId());
+                });
+    }
+
+    @DisplayName("refresh token 갱신시 새 토큰 발급, 사용한 토큰 재사용 불가")
+    @Test
+    void givenIssuedRefreshToken_whenRenew_thenRotated() {
+        // Given
+        User user = saveUser(RegistrationStatus.ACCEPTED);
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        // When
+        Optional<RefreshTokenService.Renewal> renewal = refreshTokenService.renew(refreshToken);
+
+        // Then
+        assertThat(renewal).isPresent();
+        assertThat(renewal.get().agentId()).isEqualTo(user.getId());
+        assertThat(renewal.get().agencyName()).isEqualTo("테스트 공인중개사");
+        assertThat(renewal.get().refreshToken()).isNotEqualTo(refreshToken);
+        assertThat(refreshTokenService.renew(refreshToken)).isEmpty();
+        assertThat(refreshTokenService.renew(renewal.get().refreshToken())).isPresent();
+    }
+
+    @DisplayName("가입 승인 상태가 아닌 사용자는 refresh token 갱신 불가")
+    @Test
+    void givenRejectedUser_whenRenew_thenEmpty() {
+        // Given
+        User user = saveUser(RegistrationStatus.REJECTED);
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        // When & Then
+        assertThat(refreshTokenService.renew(refreshToken)).isEmpty();
+    }
+
+    @DisplayName("공인중개사 refresh token 전체 폐기")
+    @Test
+    void givenIssuedRefreshTokens_whenRevokeAll_thenRenewFails() {
+        // Given
+        User user = saveUser(RegistrationStatus.ACCEPTED);
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        // When
+        refreshTokenService.revokeAll(user.getId());
+
+        // Then
+        assertThat(refreshTokenService.renew(refreshToken)).isEmpty();
+    }
+
+    private User saveUser(RegistrationStatus registrationStatus) {
+        return userRepository.save(User.builder()
+                .userId("tester")
+                .username("김테스트")
+                .phoneNumber("01012341234")
+                .registrationNumber("11111-0000-1111")
+                .agencyName("테스트 공인중개사")
+                .password("encoded")
+                .email("tester@test.com")
+                .registrationStatus(registrationStatus)
+                .build());
+    }
+}
@@ -0,0 +1,184 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.dto.response.RegistrationEventDto;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistrationEventBroadcasterTest {
+    private final ManualExecutor executor = new ManualExecutor();
+    private final RegistrationEventBroadcaster broadcaster =
+            new RegistrationEventBroadcaster(Duration.ofMinutes(1), 3, 5, executor);
+
+    @DisplayName("구독 이후 발행된 이벤트를 순서대로 전달")
+    @Test
+    void givenSubscriber_whenPublish_thenDeliverInOrder() {
+        RecordingEmitter emitter = subscribe(null);
+
+        broadcaster.publish(event(RegistrationStatus.PENDING));
+        broadcaster.publish(event(RegistrationStatus.ACCEPTED));
+        executor.runAll();
+
+        assertThat(emitter.names()).containsExactly("registration", "registration");
+        assertThat(emitter.ids()).hasSize(2);
+        assertThat(emitter.ids().get(0)).endsWith("-1");
+        assertThat(emitter.ids().get(1)).endsWith("-2");
+    }
+
+    @DisplayName("Last-Event-ID로 재연결시 놓친 이벤트부터 이어서 전달")
+    @Test
+    void givenLastEventId_whenReconnect_thenReplayMissedEvents() {
+        RecordingEmitter first = subscribe(null);
+        broadcaster.publish(event(RegistrationStatus.PENDING));
+        executor.runAll();
+        String lastEventId = first.ids().get(0);
+        broadcaster.publish(event(RegistrationStatus.PENDING));
+        broadcaster.publish(event(RegistrationStatus.REJECTED));
+
+        RecordingEmitter reconnected = subscribe(lastEventId);
+        executor.runAll();
+
+        assertThat(reconnected.names()).containsExactly("registration", "registration");
+        assertThat(reconnected.ids().get(0)).endsWith("-2");
+        assertThat(reconnected.ids().get(1)).endsWith("-3");
+    }
+
+    @DisplayName("replay 범위를 벗어난 Last-Event-ID로 재연결시 resync 전달")
+    @Test
+    void givenExpiredLastEventId_whenReconnect_thenResync() {
+        RecordingEmitter first = subscribe(null);
+        broadcaster.publish(event(RegistrationStatus.PENDING));
+        executor.runAll();
+        String lastEventId = first.ids().get(0);
+        for (int i = 0; i < 6; i++) {
+            broadcaster.publish(event(RegistrationStatus.PENDING));
+        }
+
+        RecordingEmitter reconnected = subscribe(lastEventId);
+        executor.runAll();
+
+        assertThat(reconnected.names()).containsExactly("resync");
+        assertThat(reconnected.ids().get(0)).endsWith("-7");
+    }
+
+    @DisplayName("다른 인스턴스에서 받은 Last-Event-ID로 재연결시 resync 전달")
+    @Test
+    void givenForeignLastEventId_whenReconnect_thenResync() {
+        broadcaster.publish(event(RegistrationStatus.PENDING));
+
+        RecordingEmitter reconnected = subscribe("0-1");
+        executor.runAll();
+
+        assertThat(reconnected.names()).containsExactly("resync");
+    }
+
+    @DisplayName("버퍼가 넘친 느린 구독자는 밀린 이벤트 대신 resync를 받고 이후 이벤트는 계속 받음")
+    @Test
+    void givenSlowSubscriber_whenBufferOverflows_thenResyncAndContinue() {
+        RecordingEmitter emitter = subscribe(null);
+        for (int i = 0; i < 4; i++) {
+            broadcaster.publish(event(RegistrationStatus.PENDING));
+        }
+        executor.runAll();
+
+        broadcaster.publish(event(RegistrationStatus.ACCEPTED));
+        executor.runAll();
+
+        assertThat(emitter.names()).containsExactly("resync", "registration");
+        assertThat(emitter.ids().get(0)).endsWith("-4");
+        assertThat(emitter.ids().get(1)).endsWith("-5");
+    }
+
+    @DisplayName("전송에 실패한 구독자는 제거")
+    @Test
+    void givenBrokenConnection_whenPublish_thenRemoveSubscriber() {
+        RecordingEmitter emitter = subscribe(null);
+        emitter.broken = true;
+
+        broadcaster.publish(event(RegistrationStatus.PENDING));
+        executor.runAll();
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(lastEventId, emitter);
+        return emitter;
+    }
+
+    private static RegistrationEventDto event(RegistrationStatus status) {
+        return RegistrationEventDto.builder()
+                .agentId(UUID.randomUUID())
+                .registrationStatus(status)
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new ArrayList<>();
+        private boolean broken;
+
+        @Override
+        public void send(SseEventBuilder builder) throws java.io.IOException {
+            if (broken) {
+                throw new java.io.IOException("connection reset");
+            }
+            StringBuilder frame = new StringBuilder();
+            builder.build().forEach(data -> {
+                if (data.getData() instanceof String text) {
+                    frame.append(text);
+                }
+            });
+            frames.add(frame.toString());
+        }
+
+        List<String> ids() {
+            return field("id:");
+        }
+
+        List<String> names() {
+            return field("event:");
+        }
+
+        private List<String> field(String prefix) {
+            List<String> values = new ArrayList<>();
+            for (String frame : frames) {
+                for (String line : frame.split("\n")) {
+                    if (line.startsWith(prefix)) {
+                        values.add(line.substring(prefix.length()));
+                    }
+                }
+            }
+            return values;
+        }
+    }
+}
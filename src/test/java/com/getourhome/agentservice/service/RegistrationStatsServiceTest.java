@@ -0,0 +1,152 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.dto.response.RegistrationStatsResponseDto;
+import com.getourhome.agentservice.entity.RegistrationStat;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.repository.RegistrationStatRepository;
+import com.getourhome.agentservice.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RegistrationStatsServiceTest {
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Instant NOW = Instant.parse("2026-01-02T03:00:00Z");
+    private static final LocalDate TODAY = LocalDate.ofInstant(NOW, ZONE);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RegistrationStatRepository registrationStatRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Clock clock = Clock.fixed(NOW, ZONE);
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        registrationStatRepository.deleteAll();
+    }
+
+    @DisplayName("가입, 상태 전환 이벤트는 테이블 반영 전에도 바로 조회되고 flush 후 요약 테이블에 저장")
+    @Test
+    void givenRegistrationEvents_whenGetStats_thenCountedWithoutScan() {
+        RegistrationStatsService stats = stats();
+        stats.load();
+
+        stats.onRegistrationEvent(new RegistrationEvent(UUID.randomUUID(), RegistrationStatus.PENDING));
+        stats.onRegistrationEvent(new RegistrationEvent(UUID.randomUUID(), RegistrationStatus.PENDING));
+        stats.onRegistrationEvent(new RegistrationEvent(UUID.randomUUID(), RegistrationStatus.ACCEPTED));
+
+        RegistrationStatsResponseDto before = stats.getStats(1);
+        assertThat(before.getPending()).isEqualTo(1);
+        assertThat(before.getAccepted()).isEqualTo(1);
+        assertThat(before.getDaily().get(0).getRegistered()).isEqualTo(2);
+
+        stats.flush();
+
+        assertThat(registrationStatRepository.findById("status.PENDING"))
+                .map(RegistrationStat::getValue).contains(1L);
+        assertThat(registrationStatRepository.findById("accepted." + TODAY))
+                .map(RegistrationStat::getValue).contains(1L);
+        RegistrationStatsResponseDto after = stats.getStats(1);
+        assertThat(after.getPending()).isEqualTo(1);
+        assertThat(after.getDaily().get(0).getRegistered()).isEqualTo(2);
+    }
+
+    @DisplayName("보정 작업은 Users를 다시 세어 틀어진 값을 덮어씀")
+    @Test
+    void givenDriftedStats_whenReconcile_thenMatchUsers() {
+        userRepository.save(user("pending", RegistrationStatus.PENDING, null));
+        userRepository.save(user("accepted", RegistrationStatus.ACCEPTED, NOW));
+        userRepository.save(user("rejected", RegistrationStatus.REJECTED, NOW));
+        registrationStatRepository.save(new RegistrationStat("status.PENDING", 42, NOW));
+        registrationStatRepository.save(new RegistrationStat("registered." + TODAY.minusDays(200), 5, NOW));
+        RegistrationStatsService stats = stats();
+        stats.load();
+
+        stats.reconcile(2);
+
+        RegistrationStatsResponseDto result = stats.getStats(2);
+        assertThat(result.getPending()).isEqualTo(1);
+        assertThat(result.getAccepted()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getDaily().get(0).getDate()).isEqualTo(TODAY);
+        assertThat(result.getDaily().get(0).getAccepted()).isEqualTo(1);
+        assertThat(result.getDaily().get(0).getRejected()).isEqualTo(1);
+        assertThat(registrationStatRepository.existsById("registered." + TODAY.minusDays(200))).isFalse();
+    }
+
+    @DisplayName("요약 테이블이 비어 있으면 시작시 세지 않고 첫 보정에서 보관 기간 전체를 채움")
+    @Test
+    void givenEmptySummary_whenFirstReconcile_thenSeedFromUsers() {
+        userRepository.save(user("pending", RegistrationStatus.PENDING, null));
+
+        RegistrationStatsService stats = stats();
+        stats.load();
+
+        assertThat(stats.getStats(1).getPending()).isZero();
+        assertThat(registrationStatRepository.count()).isZero();
+
+        stats.reconcile();
+
+        assertThat(stats.getStats(1).getPending()).isEqualTo(1);
+        assertThat(registrationStatRepository.existsById("registered." + TODAY.minusDays(89))).isTrue();
+    }
+
+    @DisplayName("다른 인스턴스가 먼저 채운 요약 테이블은 덮어써도 예외 없이 같은 값을 유지")
+    @Test
+    void givenSummarySeededByOtherInstance_whenReconcile_thenNoFailure() {
+        userRepository.save(user("pending", RegistrationStatus.PENDING, null));
+        RegistrationStatsService first = stats();
+        RegistrationStatsService second = stats();
+        first.load();
+        second.load();
+
+        first.reconcile();
+        second.reconcile();
+
+        assertThat(second.getStats(1).getPending()).isEqualTo(1);
+        assertThat(registrationStatRepository.findById("status.PENDING"))
+                .map(RegistrationStat::getValue).contains(1L);
+    }
+
+    private RegistrationStatsService stats() {
+        return new RegistrationStatsService(
+                userRepository, registrationStatRepository, transactionManager, 90, 2, clock);
+    }
+
+    private static User user(String userId, RegistrationStatus status, Instant decidedAt) {
+        return User.builder()
+                .userId(userId)
+                .username("김테스트")
+                .agencyName("테스트 공인중개사")
+                .phoneNumber("01012341234")
+                .registrationNumber("reg-" + userId)
+                .password("password")
+                .email(userId + "@tests.com")
+                .registrationStatus(status)
+                .createdAt(NOW)
+                .decidedAt(decidedAt)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.entity.RevokedToken;
+import com.getourhome.agentservice.repository.RevokedTokenRepository;
+import com.getourhome.agentservice.util.JwtClaims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "security.jwt.token.secret-key=mySecretKeymySecretKeymySecretKeymySecretKeymySecretKey",
+        "security.jwt.token.expire-length=3600000"
+})
+class TokenRevocationServiceTest {
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository.deleteAll();
+    }
+
+    @DisplayName("jti로 폐기한 토큰만 폐기 판정")
+    @Test
+    void givenRevokedTokenId_whenIsRevoked_thenOnlyThatTokenRevoked() {
+        // Given
+        UUID agentId = UUID.randomUUID();
+        String revokedTokenId = UUID.randomUUID().toString();
+        tokenRevocationService.revokeToken(revokedTokenId, "토큰 유출");
+
+        // When & Then
+        assertThat(tokenRevocationService.isRevoked(claims(agentId, revokedTokenId, Instant.now()))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(claims(agentId, UUID.randomUUID().toString(), Instant.now()))).isFalse();
+        assertThat(revokedTokenRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("공인중개사 단위 폐기시 기준 시각 이전 발급 토큰만 폐기 판정")
+    @Test
+    void givenAgentRevocation_whenIsRevoked_thenTokensIssuedBeforeRevoked() {
+        // Given
+        UUID agentId = UUID.randomUUID();
+        Instant issuedBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        tokenRevocationService.revokeAgentTokens(agentId, issuedBefore, "자격 상실");
+
+        // When & Then
+        assertThat(tokenRevocationService.isRevoked(claims(agentId, null, issuedBefore.minusSeconds(60)))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(claims(agentId, null, null))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(claims(agentId, null, issuedBefore.plusSeconds(1)))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(claims(UUID.randomUUID(), null, issuedBefore.minusSeconds(60)))).isFalse();
+    }
+
+    @DisplayName("다른 노드에서 DB에 추가된 폐기 내역을 refresh로 반영")
+    @Test
+    void givenRevocationSavedByOtherNode_whenRefresh_thenRevoked() {
+        // Given
+        String tokenId = UUID.randomUUID().toString();
+        revokedTokenRepository.save(RevokedToken.builder().tokenId(tokenId).build());
+        JwtClaims claims = claims(UUID.randomUUID(), tokenId, Instant.now());
+
+        // When
+        tokenRevocationService.refresh();
+
+        // Then
+        assertThat(tokenRevocationService.isRevoked(claims)).isTrue();
+    }
+
+    private static JwtClaims claims(UUID agentId, String tokenId, Instant issuedAt) {
+        return new JwtClaims(agentId, "테스트 공인중개사", "AGENT", tokenId, issuedAt, null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.dto.response.TokenVerificationResultDto;
+import com.getourhome.agentservice.util.JwtClaims;
+import com.getourhome.agentservice.util.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TokenVerificationServiceTest {
+    private static final String SECRET_KEY = "mySecretKeymySecretKeymySecretKeymySecretKeymySecretKey";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationService tokenRevocationService;
+    private ExecutorService executor;
+    private TokenVerificationService tokenVerificationService;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3600000L);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        executor = Executors.newFixedThreadPool(4);
+        tokenVerificationService = new TokenVerificationService(jwtTokenProvider, tokenRevocationService, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("대량 토큰 병렬 검증시 요청 순서대로 결과 반환")
+    @Test
+    void givenLargeBatch_whenVerifyAll_thenReturnResultsInRequestOrder() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < TokenVerificationService.PARALLEL_THRESHOLD * 3; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            tokens.add(i % 10 == 0 ? "invalid.token.here" : jwtTokenProvider.createToken(id, "공인중개사" + i));
+        }
+
+        // When
+        List<TokenVerificationResultDto> results = tokenVerificationService.verifyAll(tokens);
+
+        // Then
+        assertThat(results).hasSize(tokens.size());
+        for (int i = 0; i < results.size(); i++) {
+            TokenVerificationResultDto result = results.get(i);
+            if (i % 10 == 0) {
+                assertThat(result.isValid()).isFalse();
+                assertThat(result.getError()).isNotNull();
+            } else {
+                assertThat(result.isValid()).isTrue();
+                assertThat(result.getId()).isEqualTo(ids.get(i));
+                assertThat(result.getAgencyName()).isEqualTo("공인중개사" + i);
+            }
+        }
+    }
+
+    @DisplayName("만료된 토큰 검증시 EXPIRED 응답")
+    @Test
+    void givenExpiredToken_whenVerify_thenReturnExpired() {
+        // Given
+        String token = new JwtTokenProvider(SECRET_KEY, -1000L).createToken(UUID.randomUUID(), "공인중개사");
+
+        // When
+        TokenVerificationResultDto result = tokenVerificationService.verify(token);
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getError()).isEqualTo("EXPIRED");
+    }
+
+    @DisplayName("폐기된 토큰 검증시 REVOKED 응답")
+    @Test
+    void givenRevokedToken_whenVerify_thenReturnRevoked() {
+        // Given
+        String token = jwtTokenProvider.createTokenWithoutExpiration(UUID.randomUUID(), "공인중개사");
+        given(tokenRevocationService.isRevoked(any(JwtClaims.class))).willReturn(true);
+
+        // When
+        TokenVerificationResultDto result = tokenVerificationService.verify(token);
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getError()).isEqualTo("REVOKED");
+    }
+}
@@ -0,0 +1,143 @@
+package com.getourhome.agentservice.service;
+
+import com.getourhome.agentservice.dto.response.ImportRowResultDto;
+import com.getourhome.agentservice.entity.RegistrationStatus;
+import com.getourhome.agentservice.entity.User;
+import com.getourhome.agentservice.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "security.jwt.token.secret-key=mySecretKeymySecretKeymySecretKeymySecretKeymySecretKey",
+        "security.jwt.token.expire-length=3600000",
+        "security.password-hashing.bcrypt.strength=4",
+        "agent.import.batch-size=2"
+})
+class UserImportServiceTest {
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("CSV 일괄 등록 - 정상 행은 저장, 잘못된 행과 중복 행은 행별 결과로 반환")
+    @Test
+    void givenCsv_whenImportUsers_thenReportPerRow() throws IOException {
+        // Given
+        userRepository.save(User.builder()
+                .userId("existing")
+                .username("김기존")
+                .phoneNumber("01000000000")
+                .registrationNumber("00000-0000-0000")
+                .agencyName("기존 공인중개사")
+                .password("encoded")
+                .email("existing@test.com")
+                .build());
+        String csv = """
+                user_id,username,registration_number,agency_name,phone_number,password,email
+                tester1,김테스트,11111-0000-1111,"테스트, 공인중개사",01012341234,tester1234,tester1@test.com
+                tester2,김테스트,22222-0000-2222,테스트 공인중개사,01012341234,tester1234,not-an-email
+                tester1,김테스트,33333-0000-3333,테스트 공인중개사,01012341234,tester1234,tester3@test.com
+                existing,김테스트,44444-0000-4444,테스트 공인중개사,01012341234,tester1234,tester4@test.com
+                tester5,김테스트,55555-0000-5555,테스트 공인중개사,01012341234,tester1234,tester5@test.com
+                """;
+
+        // When
+        List<ImportRowResultDto> results = importUsers(csv, UserImportService.Format.CSV, RegistrationStatus.ACCEPTED);
+
+        // Then
+        assertThat(results).extracting(ImportRowResultDto::getRow).containsExactly(1, 2, 3, 4, 5);
+        assertThat(results).extracting(ImportRowResultDto::getStatus).containsExactly(
+                ImportRowResultDto.Status.CREATED,
+                ImportRowResultDto.Status.INVALID,
+                ImportRowResultDto.Status.DUPLICATE_USER_ID,
+                ImportRowResultDto.Status.DUPLICATE_USER_ID,
+                ImportRowResultDto.Status.CREATED);
+        assertThat(results.get(0).getId()).isNotNull();
+        assertThat(results.get(1).getErrors()).singleElement().asString().startsWith("email");
+
+        User imported = userRepository.findByUserId("tester1").orElseThrow();
+        assertThat(imported.getAgencyName()).isEqualTo("테스트, 공인중개사");
+        assertThat(imported.getRegistrationStatus()).isEqualTo(RegistrationStatus.ACCEPTED);
+        assertThat(imported.getPassword()).isNotEqualTo("tester1234");
+        assertThat(userRepository.count()).isEqualTo(3);
+    }
+
+    @DisplayName("NDJSON 일괄 등록 - 깨진 JSON 줄은 INVALID, 나머지는 저장")
+    @Test
+    void givenNdjson_whenImportUsers_thenReportPerRow() throws IOException {
+        // Given
+        String ndjson = """
+                {"user_id":"tester1","username":"김테스트","registration_number":"11111-0000-1111","agency_name":"테스트 공인중개사","phone_number":"01012341234","password":"tester1234","email":"tester1@test.com"}
+                {"user_id":
+                {"user_id":"tester3","username":"김테스트","registration_number":"33333-0000-3333","agency_name":"테스트 공인중개사","phone_number":"01012341234","password":"tester1234","email":"tester3@test.com"}
+                """;
+
+        // When
+        List<ImportRowResultDto> results = importUsers(ndjson, UserImportService.Format.NDJSON, RegistrationStatus.PENDING);
+
+        // Then
+        assertThat(results).extracting(ImportRowResultDto::getStatus).containsExactly(
+                ImportRowResultDto.Status.CREATED,
+                ImportRowResultDto.Status.INVALID,
+                ImportRowResultDto.Status.CREATED);
+        assertThat(userRepository.findByUserId("tester3").orElseThrow().getRegistrationStatus())
+                .isEqualTo(RegistrationStatus.PENDING);
+    }
+
+    @DisplayName("CSV 큰따옴표가 닫히지 않으면 앞선 행은 저장하고 해당 행은 INVALID로 보고한 뒤 중단")
+    @Test
+    void givenCsvWithUnterminatedQuote_whenImportUsers_thenPendingRowsSaved() throws IOException {
+        // Given
+        String csv = """
+                user_id,username,registration_number,agency_name,phone_number,password,email
+                tester1,김테스트,11111-0000-1111,테스트 공인중개사,01012341234,tester1234,tester1@test.com
+                tester2,김테스트,22222-0000-2222,"테스트 공인중개사,01012341234,tester1234,tester2@test.com
+                tester3,김테스트,33333-0000-3333,테스트 공인중개사,01012341234,tester1234,tester3@test.com
+                """;
+
+        // When
+        List<ImportRowResultDto> results = importUsers(csv, UserImportService.Format.CSV, RegistrationStatus.PENDING);
+
+        // Then
+        assertThat(results).extracting(ImportRowResultDto::getStatus).containsExactly(
+                ImportRowResultDto.Status.CREATED,
+                ImportRowResultDto.Status.INVALID);
+        assertThat(results.get(1).getErrors()).singleElement().asString().contains("큰따옴표");
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("CSV 헤더에 필수 컬럼이 없으면 예외")
+    @Test
+    void givenCsvWithoutRequiredColumns_whenImportUsers_thenThrow() {
+        String csv = "user_id,username\ntester1,김테스트\n";
+
+        assertThatThrownBy(() -> importUsers(csv, UserImportService.Format.CSV, RegistrationStatus.PENDING))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<ImportRowResultDto> importUsers(String body, UserImportService.Format format,
+                                                 RegistrationStatus registrationStatus) throws IOException {
+        List<ImportRowResultDto> results = new ArrayList<>();
+        userImportService.importUsers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                format, registrationStatus, results::addAll);
+        return results;
+    }
+}
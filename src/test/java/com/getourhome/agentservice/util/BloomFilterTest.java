@@ -0,0 +1,50 @@
+package com.getourhome.agentservice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함으로 판정 테스트")
+    void givenInsertedValues_whenMightContain_thenReturnTrue() {
+        // Given
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+        String[] values = new String[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UUID.randomUUID().toString();
+            bloomFilter.put(values[i]);
+        }
+
+        // When & Then
+        for (String value : values) {
+            assertThat(bloomFilter.mightContain(value)).isTrue();
+        }
+        assertThat(bloomFilter.isSaturated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률이 설계값 근처 테스트")
+    void givenAbsentValues_whenMightContain_thenFalsePositiveRateBounded() {
+        // Given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("present-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.03);
+    }
+}
@@ -0,0 +1,47 @@
+package com.getourhome.agentservice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    @DisplayName("cost를 고정하면 cost가 다른 해시는 높든 낮든 재해싱 대상")
+    @Test
+    void givenPinnedStrength_whenUpgradeEncoding_thenUpgradeOrDowngrade() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(6);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(8).encode("password"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+    }
+
+    @DisplayName("측정한 cost가 다른 인스턴스끼리는 최소 cost 이상의 해시를 서로 재해싱하지 않음")
+    @Test
+    void givenCalibratedEncoders_whenUpgradeEncoding_thenStableAcrossCosts() {
+        CalibratedBCryptPasswordEncoder slowPod = new CalibratedBCryptPasswordEncoder(5, 4);
+        CalibratedBCryptPasswordEncoder fastPod = new CalibratedBCryptPasswordEncoder(7, 4);
+
+        assertThat(slowPod.upgradeEncoding(fastPod.encode("password"))).isFalse();
+        assertThat(fastPod.upgradeEncoding(slowPod.encode("password"))).isFalse();
+        assertThat(fastPod.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isFalse();
+        assertThat(new CalibratedBCryptPasswordEncoder(7, 5).upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")))
+                .isTrue();
+    }
+
+    @DisplayName("측정한 cost는 최소, 최대 범위 안에서 선택")
+    @Test
+    void givenTargetLatency_whenCalibrate_thenStrengthWithinBounds() {
+        CalibratedBCryptPasswordEncoder tooFast = CalibratedBCryptPasswordEncoder.calibrate(Duration.ofNanos(1), 5, 7);
+        CalibratedBCryptPasswordEncoder capped = CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMinutes(1), 4, 6);
+
+        assertThat(tooFast.getStrength()).isEqualTo(5);
+        assertThat(capped.getStrength()).isEqualTo(6);
+        assertThat(capped.matches("password", capped.encode("password"))).isTrue();
+    }
+}
@@ -0,0 +1,42 @@
+package com.getourhome.agentservice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @DisplayName("큰따옴표 필드 안의 쉼표, 줄바꿈, 이스케이프된 큰따옴표 처리")
+    @Test
+    void givenQuotedFields_whenReadRecord_thenFieldsUnquoted() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(
+                "a,\"b,c\",\"say \"\"hi\"\"\"\r\n\r\n\"multi\nline\",,last\n"));
+
+        assertThat(reader.readRecord()).containsExactly("a", "b,c", "say \"hi\"");
+        assertThat(reader.readRecord()).containsExactly("multi\nline", "", "last");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @DisplayName("마지막 줄에 줄바꿈이 없어도 레코드 반환")
+    @Test
+    void givenNoTrailingNewline_whenReadRecord_thenLastRecordReturned() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("x,y"));
+
+        assertThat(reader.readRecord()).isEqualTo(List.of("x", "y"));
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @DisplayName("닫히지 않은 큰따옴표는 예외")
+    @Test
+    void givenUnterminatedQuote_whenReadRecord_thenThrow() {
+        CsvReader reader = new CsvReader(new StringReader("\"open,field"));
+
+        assertThatThrownBy(reader::readRecord).isInstanceOf(CsvReader.MalformedCsvException.class);
+    }
+}
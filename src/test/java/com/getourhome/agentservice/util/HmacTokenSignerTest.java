@@ -0,0 +1,123 @@
+package com.getourhome.agentservice.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HmacTokenSignerTest {
+    private static final String SECRET_KEY = "mySecretKeymySecretKeymySecretKeymySecretKeymySecretKey";
+
+    private final SecretKey secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET_KEY));
+    private final HmacTokenSigner hmacTokenSigner = new HmacTokenSigner(secretKey);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test공인중개사", "a", "ab", "abc", "따옴표\"와 역슬래시\\", "Ünïcödé 부동산 €"})
+    @DisplayName("만료 없는 토큰이 jjwt 생성 토큰과 바이트 단위로 동일 테스트")
+    void givenClaims_whenSignWithoutExpiration_thenIdenticalToJjwt(String agencyName) {
+        // Given
+        UUID id = UUID.randomUUID();
+        String expected = Jwts.builder()
+                .claim("id", id.toString())
+                .claim("agencyName", agencyName)
+                .claim("role", "AGENT")
+                .signWith(secretKey)
+                .compact();
+
+        // When
+        String token = hmacTokenSigner.sign(id, agencyName, "AGENT", null, null, null);
+
+        // Then
+        assertThat(token).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서 공유 풀로 동시에 서명해도 플랫폼 스레드와 같은 토큰 생성 테스트")
+    void givenVirtualThreads_whenSignConcurrently_thenIdenticalToPlatformThread() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        String expected = hmacTokenSigner.sign(id, "test공인중개사", "AGENT", null, 1_700_000_000L, 1_700_003_600L);
+
+        // When
+        List<Future<String>> tokens = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                tokens.add(executor.submit(() ->
+                        hmacTokenSigner.sign(id, "test공인중개사", "AGENT", null, 1_700_000_000L, 1_700_003_600L)));
+            }
+        }
+
+        // Then
+        for (Future<String> token : tokens) {
+            assertThat(token.get()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("jti, iat, exp 포함 토큰이 jjwt 생성 토큰과 동일하고 jjwt로 검증 가능 테스트")
+    void givenClaimsWithExpiration_whenSign_thenIdenticalToJjwtAndVerifiable() {
+        // Given
+        UUID id = UUID.randomUUID();
+        String tokenId = UUID.randomUUID().toString();
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + Duration.ofHours(1).toMillis());
+        String expected = Jwts.builder()
+                .claim("id", id.toString())
+                .claim("agencyName", "test공인중개사")
+                .claim("role", "AGENT")
+                .id(tokenId)
+                .issuedAt(now)
+                .expiration(validity)
+                .signWith(secretKey)
+                .compact();
+
+        // When
+        String token = hmacTokenSigner.sign(id, "test공인중개사", "AGENT", tokenId,
+                now.getTime() / 1000, validity.getTime() / 1000);
+
+        // Then
+        assertThat(token).isEqualTo(expected);
+        assertThat(Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
+                .get("id", String.class)).isEqualTo(id.toString());
+    }
+
+    @Test
+    @DisplayName("제어 문자 및 surrogate 포함 문자열은 빠른 서명 대상에서 제외 테스트")
+    void givenControlCharacterOrSurrogate_whenCanEncode_thenReturnFalse() {
+        assertThat(HmacTokenSigner.canEncode("test공인중개사")).isTrue();
+        assertThat(HmacTokenSigner.canEncode("줄\n바꿈")).isFalse();
+        assertThat(HmacTokenSigner.canEncode("이모지🏠")).isFalse();
+    }
+
+    @Test
+    @DisplayName("빠른 서명 활성화시 JwtTokenProvider 생성 토큰 검증 테스트")
+    void givenFastSignerEnabled_whenCreateToken_thenVerifiable() {
+        // Given
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3600000L, 100,
+                Duration.ofMinutes(5), JwtSigningKeys.hmacOnly(), true);
+        UUID userPk = UUID.randomUUID();
+
+        // When
+        String token = jwtTokenProvider.createTokenWithoutExpiration(userPk, "test공인중개사");
+        String expiringToken = jwtTokenProvider.createToken(userPk, "test공인중개사");
+
+        // Then
+        assertThat(jwtTokenProvider.getUserPk(token)).isEqualTo(userPk);
+        assertThat(jwtTokenProvider.verify(expiringToken).expiration()).isNotNull();
+    }
+}
@@ -0,0 +1,153 @@
+package com.getourhome.agentservice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtSigningKeysTest {
+    private static final String SECRET_KEY = "mySecretKeymySecretKeymySecretKeymySecretKeymySecretKey";
+
+    @TempDir
+    Path keyDirectory;
+
+    @Test
+    @DisplayName("ES256 키로 서명한 토큰 헤더에 kid 포함 및 검증 성공 테스트")
+    void givenEcKey_whenCreateToken_thenSignedWithKidAndVerifiable() throws Exception {
+        // Given
+        writeKeyPair("2026-01", generate("EC"), true);
+        JwtTokenProvider jwtTokenProvider = asymmetricProvider();
+        UUID userPk = UUID.randomUUID();
+
+        // When
+        String token = jwtTokenProvider.createToken(userPk, "test공인중개사");
+
+        // Then
+        assertThat(header(token)).contains("\"kid\":\"2026-01\"").contains("\"alg\":\"ES256\"");
+        assertThat(jwtTokenProvider.verify(token).id()).isEqualTo(userPk);
+    }
+
+    @Test
+    @DisplayName("EdDSA 키로 서명한 토큰 검증 및 JWKS OKP 키 공개 테스트")
+    void givenEd25519Key_whenCreateToken_thenVerifiableAndPublished() throws Exception {
+        // Given
+        writeKeyPair("ed-2026-01", generate("Ed25519"), true);
+        JwtSigningKeys signingKeys = new JwtSigningKeys(JwtSigningKeys.Mode.ASYMMETRIC, keyDirectory.toString(), "");
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3600000L, 100, Duration.ofMinutes(5), signingKeys, false);
+
+        // When
+        String token = jwtTokenProvider.createTokenWithoutExpiration(UUID.randomUUID(), "test공인중개사");
+
+        // Then
+        assertThat(header(token)).contains("\"alg\":\"EdDSA\"");
+        assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+        assertThat(jwks(signingKeys)).singleElement()
+                .satisfies(jwk -> {
+                    assertThat(jwk).containsEntry("kty", "OKP").containsEntry("crv", "Ed25519");
+                    assertThat(jwk).containsEntry("kid", "ed-2026-01");
+                });
+    }
+
+    @Test
+    @DisplayName("새 키 추가시 재시작 없이 서명 키 교체, 이전 키로 서명된 토큰 검증 유지 테스트")
+    void givenNewKeyAdded_whenRefresh_thenRotateSigningKeyAndKeepOldKeyVerifiable() throws Exception {
+        // Given
+        writeKeyPair("2026-01", generate("EC"), true);
+        JwtSigningKeys signingKeys = new JwtSigningKeys(JwtSigningKeys.Mode.ASYMMETRIC, keyDirectory.toString(), "");
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3600000L, 100, Duration.ofMinutes(5), signingKeys, false);
+        String oldToken = jwtTokenProvider.createToken(UUID.randomUUID(), "test공인중개사");
+        String oldETag = signingKeys.getJwksETag();
+
+        // When
+        writeKeyPair("2026-02", generate("EC"), true);
+        signingKeys.refresh();
+        String newToken = jwtTokenProvider.createToken(UUID.randomUUID(), "test공인중개사");
+
+        // Then
+        assertThat(header(newToken)).contains("\"kid\":\"2026-02\"");
+        assertThat(jwtTokenProvider.validateToken(oldToken)).isTrue();
+        assertThat(jwtTokenProvider.validateToken(newToken)).isTrue();
+        assertThat(jwks(signingKeys)).extracting(jwk -> jwk.get("kid")).containsExactly("2026-01", "2026-02");
+        assertThat(signingKeys.getJwksETag()).isNotEqualTo(oldETag);
+    }
+
+    @Test
+    @DisplayName("공개키만 있는 kid는 JWKS에 공개되지만 서명에는 사용되지 않음 테스트")
+    void givenPublicKeyOnly_whenRefresh_thenPublishedButNotActive() throws Exception {
+        // Given
+        writeKeyPair("2026-01", generate("EC"), true);
+        writeKeyPair("2026-02", generate("EC"), false);
+
+        // When
+        JwtSigningKeys signingKeys = new JwtSigningKeys(JwtSigningKeys.Mode.ASYMMETRIC, keyDirectory.toString(), "");
+
+        // Then
+        assertThat(signingKeys.getSigningKey().keyId()).isEqualTo("2026-01");
+        assertThat(signingKeys.findPublicKey("2026-02")).isNotNull();
+        assertThat(jwks(signingKeys)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("HMAC 모드에서 생성된 토큰은 kid 없이 공유키로 검증 테스트")
+    void givenHmacMode_whenCreateToken_thenNoKid() {
+        // Given
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3600000L);
+
+        // When
+        String token = jwtTokenProvider.createToken(UUID.randomUUID(), "test공인중개사");
+
+        // Then
+        assertThat(header(token)).doesNotContain("kid");
+        assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+    }
+
+    private JwtTokenProvider asymmetricProvider() {
+        JwtSigningKeys signingKeys = new JwtSigningKeys(JwtSigningKeys.Mode.ASYMMETRIC, keyDirectory.toString(), "");
+        return new JwtTokenProvider(SECRET_KEY, 3600000L, 100, Duration.ofMinutes(5), signingKeys, false);
+    }
+
+    private static KeyPair generate(String algorithm) throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+        if (algorithm.equals("EC")) {
+            generator.initialize(256);
+        }
+        return generator.generateKeyPair();
+    }
+
+    private void writeKeyPair(String keyId, KeyPair keyPair, boolean withPrivateKey) throws IOException {
+        writePem(keyDirectory.resolve(keyId + ".pub"), "PUBLIC KEY", keyPair.getPublic().getEncoded());
+        if (withPrivateKey) {
+            writePem(keyDirectory.resolve(keyId + ".key"), "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        }
+    }
+
+    private static void writePem(Path file, String type, byte[] der) throws IOException {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+        Files.writeString(file, pem, StandardCharsets.US_ASCII);
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> jwks(JwtSigningKeys signingKeys) {
+        return (List<Map<String, Object>>) signingKeys.getJwks().get("keys");
+    }
+}
@@ -1,14 +1,20 @@
 package com.getourhome.agentservice.util;
 
+import com.getourhome.agentservice.exception.TokenRevokedException;
+import com.getourhome.agentservice.repository.RevokedTokenRepository;
+import com.getourhome.agentservice.service.TokenRevocationService;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest(properties = {
         "security.jwt.token.secret-key=mySecretKeymySecretKeymySecretKeymySecretKeymySecretKey",
@@ -24,6 +30,15 @@ class JwtTokenProviderTest {
 
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private JwtTokenProvider revocationAwareTokenProvider;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
     @BeforeEach
     void setUp() {
         jwtTokenProvider = new JwtTokenProvider(secretKey, validityInMilliseconds);
@@ -189,4 +204,116 @@ class JwtTokenProviderTest {
         // Then
         assertThat(extractedUserPk).isEqualTo("AGENT");
     }
+
+    @Test
+    @DisplayName("verify 호출시 id, agencyName, role, iat, exp claim 한 번에 반환 테스트")
+    void givenValidToken_whenVerify_thenReturnAllClaims() {
+        // Given
+        UUID userPk = UUID.randomUUID();
+        String agencyName = "test공인중개사";
+        String token = jwtTokenProvider.createToken(userPk, agencyName);
+
+        // When
+        JwtClaims claims = jwtTokenProvider.verify(token);
+
+        // Then
+        assertThat(claims.id()).isEqualTo(userPk);
+        assertThat(claims.agencyName()).isEqualTo(agencyName);
+        assertThat(claims.role()).isEqualTo("AGENT");
+        assertThat(claims.issuedAt()).isNotNull();
+        assertThat(claims.expiration()).isAfter(claims.issuedAt());
+    }
+
+    @Test
+    @DisplayName("같은 토큰 재검증시 캐시 hit, 서명 재검증 생략 테스트")
+    void givenVerifiedToken_whenVerifyAgain_thenCacheHit() {
+        // Given
+        String token = jwtTokenProvider.createTokenWithoutExpiration(UUID.randomUUID(), "test공인중개사");
+        JwtClaims first = jwtTokenProvider.verify(token);
+
+        // When
+        JwtClaims second = jwtTokenProvider.verify(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(jwtTokenProvider.getVerifiedTokenCacheMissCount()).isEqualTo(1);
+        assertThat(jwtTokenProvider.getVerifiedTokenCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰 verify 실패 및 캐시 미저장 테스트")
+    void givenTamperedToken_whenVerify_thenThrowJwtException() {
+        // Given
+        String token = jwtTokenProvider.createTokenWithoutExpiration(UUID.randomUUID(), "test공인중개사");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When & Then
+        assertThatThrownBy(() -> jwtTokenProvider.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThat(jwtTokenProvider.validateToken(tampered)).isFalse();
+        assertThat(jwtTokenProvider.getVerifiedTokenCacheHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("jti로 폐기한 토큰은 캐시된 뒤에도 validateToken false, getUserPk 예외 테스트")
+    void givenRevokedTokenId_whenValidateToken_thenReturnFalse() {
+        // Given
+        String token = revocationAwareTokenProvider.createToken(UUID.randomUUID(), "test공인중개사");
+        assertThat(revocationAwareTokenProvider.validateToken(token)).isTrue();
+
+        // When
+        tokenRevocationService.revokeToken(revocationAwareTokenProvider.verify(token).tokenId(), "토큰 유출");
+
+        // Then
+        assertThat(revocationAwareTokenProvider.validateToken(token)).isFalse();
+        assertThatThrownBy(() -> revocationAwareTokenProvider.getUserPk(token))
+                .isInstanceOf(TokenRevokedException.class);
+        revokedTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("공인중개사 단위로 폐기하면 이전에 발급한 토큰 validateToken false, getUserPk 예외 테스트")
+    void givenAgentRevocation_whenValidateToken_thenReturnFalse() {
+        // Given
+        UUID agentId = UUID.randomUUID();
+        String token = revocationAwareTokenProvider.createToken(agentId, "test공인중개사");
+        assertThat(revocationAwareTokenProvider.validateToken(token)).isTrue();
+
+        // When
+        tokenRevocationService.revokeAgentTokens(agentId, null, "계정 탈취");
+
+        // Then
+        assertThat(revocationAwareTokenProvider.validateToken(token)).isFalse();
+        assertThatThrownBy(() -> revocationAwareTokenProvider.getUserPk(token))
+                .isInstanceOf(TokenRevokedException.class);
+        revokedTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 validateToken false 테스트")
+    void givenExpiredToken_whenValidateToken_thenReturnFalse() {
+        // Given
+        JwtTokenProvider expiredTokenProvider = new JwtTokenProvider(secretKey, -1000L);
+        String token = expiredTokenProvider.createToken(UUID.randomUUID(), "test공인중개사");
+
+        // When
+        boolean isValid = expiredTokenProvider.validateToken(token);
+
+        // Then
+        assertThat(isValid).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 없는 토큰에도 폐기용 jti, iat claim 포함 테스트")
+    void givenTokenWithoutExpiration_whenVerify_thenHasTokenIdAndIssuedAt() {
+        // Given
+        String token = jwtTokenProvider.createTokenWithoutExpiration(UUID.randomUUID(), "test공인중개사");
+
+        // When
+        JwtClaims claims = jwtTokenProvider.verify(token);
+
+        // Then
+        assertThat(claims.tokenId()).isNotBlank();
+        assertThat(claims.issuedAt()).isNotNull();
+        assertThat(claims.expiration()).isNull();
+    }
 }
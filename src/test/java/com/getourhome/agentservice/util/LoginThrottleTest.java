@@ -0,0 +1,113 @@
+package com.getourhome.agentservice.util;
+
+import com.getourhome.agentservice.exception.LoginThrottledException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginThrottleTest {
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final LoginThrottle loginThrottle = new LoginThrottle(
+            true, 3, Duration.ofMinutes(15), 5, Duration.ofMinutes(1), 1000, clock);
+
+    @DisplayName("계정 실패 횟수 초과시 잠금, Retry-After는 양수")
+    @Test
+    void givenTooManyFailures_whenCheckAllowed_thenThrottled() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.checkAllowed("tester", "10.0.0." + i);
+            loginThrottle.recordFailure("tester");
+        }
+
+        assertThatThrownBy(() -> loginThrottle.checkAllowed("tester", "10.0.0.9"))
+                .isInstanceOf(LoginThrottledException.class)
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfter()).isPositive());
+        assertThatCode(() -> loginThrottle.checkAllowed("other", "10.0.0.9")).doesNotThrowAnyException();
+    }
+
+    @DisplayName("로그인 성공시 계정 실패 횟수 초기화")
+    @Test
+    void givenFailuresThenSuccess_whenCheckAllowed_thenAllowed() {
+        loginThrottle.recordFailure("tester");
+        loginThrottle.recordFailure("tester");
+        loginThrottle.recordSuccess("tester");
+        loginThrottle.recordFailure("tester");
+
+        assertThatCode(() -> loginThrottle.checkAllowed("tester", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    @DisplayName("Retry-After가 지나면 다시 허용")
+    @Test
+    void givenLockedAccount_whenRetryAfterElapsed_thenAllowed() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordFailure("tester");
+        }
+        LoginThrottledException exception = assertThrows(
+                LoginThrottledException.class, () -> loginThrottle.checkAllowed("tester", null));
+
+        clock.advance(exception.getRetryAfter());
+
+        assertThatCode(() -> loginThrottle.checkAllowed("tester", null)).doesNotThrowAnyException();
+    }
+
+    @DisplayName("클라이언트 시도 횟수 초과시 제한")
+    @Test
+    void givenTooManyAttemptsFromClient_whenCheckAllowed_thenThrottled() {
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.checkAllowed("user" + i, "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> loginThrottle.checkAllowed("user9", "10.0.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> loginThrottle.checkAllowed("user9", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @DisplayName("sliding window 카운터는 직전 window를 경과 비율만큼 반영")
+    @Test
+    void givenPreviousWindowCounts_whenRetryAfter_thenDecaysWithinWindow() {
+        LoginThrottle.SlidingWindowCounter counter = new LoginThrottle.SlidingWindowCounter();
+        for (int i = 0; i < 10; i++) {
+            counter.increment(0, 1000);
+        }
+
+        assertThat(counter.retryAfterMillis(1000, 1000, 10)).isPositive();
+        assertThat(counter.retryAfterMillis(1500, 1000, 10)).isZero();
+        assertThat(counter.retryAfterMillis(2000, 1000, 10)).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
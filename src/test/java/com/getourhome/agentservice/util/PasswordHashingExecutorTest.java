@@ -0,0 +1,105 @@
+package com.getourhome.agentservice.util;
+
+import com.getourhome.agentservice.exception.PasswordHashingRejectedException;
+import com.getourhome.agentservice.exception.PasswordHashingTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+    private PasswordHashingExecutor executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @DisplayName("해싱 스레드에서 작업 실행 후 결과 반환")
+    @Test
+    void givenIdleExecutor_whenExecute_thenReturnResult() {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        String threadName = executor.execute(() -> Thread.currentThread().getName());
+
+        assertThat(threadName).startsWith("password-hashing-");
+    }
+
+    @DisplayName("해싱 스레드 안에서 다시 호출하면 바로 실행")
+    @Test
+    void givenHashingThread_whenExecuteNested_thenRunInline() {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        String result = executor.execute(() -> executor.execute(() -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+    }
+
+    @DisplayName("대기열이 가득 차면 PasswordHashingRejectedException")
+    @Test
+    void givenFullQueue_whenExecute_thenRejected() throws Exception {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(3));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executor.bindTo(registry);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture.runAsync(() -> executor.execute(() -> {
+            started.countDown();
+            return await(release);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> executor.execute(() -> await(release)));
+        waitUntilQueued(1);
+
+        assertThatThrownBy(() -> executor.execute(() -> "rejected"))
+                .isInstanceOf(PasswordHashingRejectedException.class)
+                .extracting("retryAfter")
+                .isEqualTo(Duration.ofSeconds(3));
+        assertThat(registry.get("password.hashing.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @DisplayName("deadline 안에 끝나지 않으면 PasswordHashingTimeoutException")
+    @Test
+    void givenBusyExecutor_whenDeadlineExceeded_thenTimeout() throws Exception {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofMillis(100), Duration.ofSeconds(1));
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture.runAsync(() -> executor.execute(() -> {
+            started.countDown();
+            return await(release);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> executor.execute(() -> "late"))
+                .isInstanceOf(PasswordHashingTimeoutException.class);
+        assertThat(executor.getQueueSize()).isZero();
+    }
+
+    private void waitUntilQueued(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getQueueSize() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(executor.getQueueSize()).isEqualTo(size);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.getourhome.agentservice.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+    private static final String LAG_QUERY = "select lag_millis from replica_lag";
+
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("shutdown");
+        new JdbcTemplate(replica).execute("shutdown");
+    }
+
+    @DisplayName("ReplicaReads로 시작한 읽기만 replica로, 나머지는 primary로 전달")
+    @Test
+    void givenReplicaReads_whenQuery_thenRoutedToReplica() {
+        Fixture fixture = new Fixture(new ReplicaRoutingDataSource(
+                primary, List.of(replica), Duration.ofSeconds(30), null, Duration.ofSeconds(1)));
+
+        assertThat(fixture.node()).isEqualTo("primary");
+        assertThat(fixture.replicaReads.read(fixture::node)).isEqualTo("replica");
+        assertThat(fixture.readOnly.execute(status -> fixture.node())).isEqualTo("primary");
+    }
+
+    @DisplayName("쓰기 트랜잭션 안에서 호출한 ReplicaReads는 같은 primary 연결에서 읽음")
+    @Test
+    void givenWriteTransaction_whenReplicaReads_thenStayOnPrimary() {
+        Fixture fixture = new Fixture(new ReplicaRoutingDataSource(
+                primary, List.of(replica), Duration.ofSeconds(30), null, Duration.ofSeconds(1)));
+
+        String node = fixture.readWrite.execute(status -> {
+            fixture.jdbcTemplate.update("update node set name = 'primary-updated'");
+            return fixture.replicaReads.read(fixture::node);
+        });
+
+        assertThat(node).isEqualTo("primary-updated");
+    }
+
+    @DisplayName("replica 연결 실패시 primary에서 읽고 cooldown 동안 replica 제외")
+    @Test
+    void givenUnreachableReplica_whenReplicaReads_thenFallbackToPrimary() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, List.of(new UnreachableDataSource()), Duration.ofSeconds(30), null, Duration.ofSeconds(1));
+        Fixture fixture = new Fixture(routing);
+
+        assertThat(fixture.replicaReads.read(fixture::node)).isEqualTo("primary");
+        assertThat(routing.availableReplicas()).isZero();
+        assertThat(fixture.replicaReads.read(fixture::node)).isEqualTo("primary");
+        assertThat(routing.fallbackCount()).isEqualTo(2);
+    }
+
+    @DisplayName("계정을 지정한 연결은 ReplicaReads 안에서도 primary로 전달")
+    @Test
+    void givenCredentials_whenGetConnection_thenPrimary() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, List.of(replica), Duration.ofSeconds(30), null, Duration.ofSeconds(1));
+        Fixture fixture = new Fixture(routing);
+
+        String node = fixture.replicaReads.read(() -> {
+            try (Connection connection = routing.getConnection("sa", "")) {
+                return new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                        .queryForObject("select name from node", String.class);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @DisplayName("지연이 max-lag를 넘은 replica는 제외하고, 따라잡으면 다시 사용")
+    @Test
+    void givenLaggingReplica_whenCheckReplicas_thenExcludedUntilCaughtUp() {
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("create table replica_lag (lag_millis bigint)");
+        replicaJdbc.update("insert into replica_lag values (5000)");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, List.of(replica), Duration.ofMinutes(10), LAG_QUERY, Duration.ofSeconds(1),
+                Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+        Fixture fixture = new Fixture(routing);
+
+        routing.checkReplicas();
+        assertThat(fixture.replicaReads.read(fixture::node)).isEqualTo("primary");
+
+        replicaJdbc.update("update replica_lag set lag_millis = 100");
+        routing.checkReplicas();
+        assertThat(fixture.replicaReads.read(fixture::node)).isEqualTo("replica");
+    }
+
+    private static DataSource database(String node) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + node + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(32))");
+        jdbcTemplate.update("insert into node values (?)", node);
+        return dataSource;
+    }
+
+    private static final class Fixture {
+        private final JdbcTemplate jdbcTemplate;
+        private final ReplicaReads replicaReads;
+        private final TransactionTemplate readWrite;
+        private final TransactionTemplate readOnly;
+
+        private Fixture(ReplicaRoutingDataSource routing) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.replicaReads = new ReplicaReads(transactionManager);
+            this.readWrite = new TransactionTemplate(transactionManager);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+        }
+
+        private String node() {
+            return jdbcTemplate.queryForObject("select name from node", String.class);
+        }
+    }
+
+    private static final class UnreachableDataSource extends AbstractDataSource {
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("연결 실패");
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.getourhome.agentservice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    @DisplayName("version 7, RFC variant, 생성 시각이 상위 48비트에 기록")
+    @Test
+    void givenRandomUuid_thenVersion7WithTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.randomUuid();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.epochMillis(uuid)).isBetween(before, after);
+    }
+
+    @DisplayName("나중 밀리초에 만든 id가 문자열, UUID 비교 모두 뒤에 정렬")
+    @Test
+    void givenLaterMillis_thenSortsAfter() {
+        SecureRandom random = new SecureRandom();
+        UUID earlier = UuidV7.of(1_767_225_600_000L, random);
+        UUID later = UuidV7.of(1_767_225_600_001L, random);
+
+        assertThat(later).isGreaterThan(earlier);
+        assertThat(later.toString()).isGreaterThan(earlier.toString());
+    }
+
+    @DisplayName("같은 밀리초에도 중복 없이 생성")
+    @Test
+    void givenManyUuids_thenUnique() {
+        Set<UUID> uuids = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidV7.randomUuid());
+        }
+
+        assertThat(uuids).hasSize(100_000);
+    }
+
+    @DisplayName("가상 스레드에서 공유 난수로 동시에 생성해도 중복 없음")
+    @Test
+    void givenVirtualThreads_whenRandomUuid_thenUnique() {
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                executor.submit(() -> uuids.add(UuidV7.randomUuid()));
+            }
+        }
+
+        assertThat(uuids).hasSize(10_000);
+    }
+
+    @DisplayName("기존 v4 id에서는 생성 시각을 읽을 수 없음")
+    @Test
+    void givenVersion4_whenEpochMillis_thenThrow() {
+        assertThatThrownBy(() -> UuidV7.epochMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}